@@ -0,0 +1,112 @@
+package com.shopsmart.ecommerceapi.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Error path throughput: throwing a client error from {@code stackDepth} frames down (a servlet
+ * request is typically over 100 deep) and rendering the body, against the previous stack-filling
+ * exceptions and per-response serialization ({@code legacy*}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiExceptionHandlerBenchmark {
+
+    @Param({"16", "128"})
+    public int stackDepth;
+
+    private ObjectMapper objectMapper;
+    private ApiExceptionHandler handler;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        handler = new ApiExceptionHandler(new ErrorResponses(objectMapper), new ApiMetrics(new SimpleMeterRegistry()));
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "user");
+        bindingResult.addError(new FieldError("user", "firstName", "First name is required"));
+        bindingResult.addError(new FieldError("user", "email", "Email is not valid"));
+        bindingResult.addError(new FieldError("user", "password", "Password must be at least 8 characters"));
+        validationException = new MethodArgumentNotValidException((MethodParameter) null, bindingResult);
+    }
+
+    @Benchmark
+    public byte[] conflict() {
+        try {
+            throwFrom(stackDepth, () -> new ResourceAlreadyExists("Email is already in use"));
+            return null;
+        } catch (ResourceAlreadyExists e) {
+            return handler.handleResourceAlreadyExistsException(e).getBody();
+        }
+    }
+
+    @Benchmark
+    public byte[] legacyConflict() throws JsonProcessingException {
+        try {
+            throwFrom(stackDepth, () -> new RuntimeException("Email is already in use"));
+            return null;
+        } catch (RuntimeException e) {
+            return objectMapper.writeValueAsBytes(ApiException
+                    .builder()
+                    .message(e.getMessage())
+                    .timestamp(new Date())
+                    .httpStatus(HttpStatus.CONFLICT)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] validationError() {
+        return handler.handleMethodArgumentNotValidException(validationException).getBody();
+    }
+
+    @Benchmark
+    public byte[] legacyValidationError() throws JsonProcessingException {
+        List<String> errors = validationException.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.toList());
+        return objectMapper.writeValueAsBytes(ApiException
+                .builder()
+                .message(errors.get(0))
+                .timestamp(new Date())
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .build());
+    }
+
+    private static void throwFrom(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        throwFrom(depth - 1, exception);
+    }
+}
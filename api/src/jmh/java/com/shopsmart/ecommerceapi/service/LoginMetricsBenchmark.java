@@ -0,0 +1,122 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.shopsmart.ecommerceapi.config.CredentialsCacheProperties;
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.config.PasswordHashingProperties;
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.dto.UserCredentialsRow;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics.LoginOutcome;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics.LoginPhase;
+import com.shopsmart.ecommerceapi.repository.RefreshTokenRepository;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import com.shopsmart.ecommerceapi.security.credentials.CredentialsCache;
+import com.shopsmart.ecommerceapi.security.credentials.LocalCredentialsInvalidationBus;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.naming.AuthenticationException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Cost of the login metrics, to be kept under 1% of a login. {@code login} runs
+ * {@link UserService#loginCustomer} with the real password check and token signing, the
+ * repositories stubbed, and its meters either recording nowhere ({@code metrics=none}) or into a
+ * Prometheus registry. BCrypt dominates it and varies by more than the instrumentation costs, so
+ * {@code meterUpdates}, the timer updates of one login on their own, is the figure to hold against
+ * the login time: about 1 µs against 1 ms at BCrypt cost 4, far below production, and 50 ms or more
+ * at cost 10.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginMetricsBenchmark {
+
+    private static final String SECRET = "c2hvcHNtYXJ0LWJlbmNobWFyay1zZWNyZXQta2V5LTAxMjM0NTY3ODlhYmNkZWY=";
+
+    @Param({"none", "prometheus"})
+    public String metrics;
+
+    @Param({"4", "10"})
+    public int strength;
+
+    private PasswordHasher passwordHasher;
+    private UserService userService;
+    private ApiMetrics apiMetrics;
+    private LoginRequest request;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry registry = metrics.equals("prometheus")
+                ? new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)
+                : new CompositeMeterRegistry();
+        apiMetrics = new ApiMetrics(registry);
+
+        PasswordHashingProperties hashing = new PasswordHashingProperties();
+        hashing.setBcryptStrength(strength);
+        passwordHasher = new PasswordHasher(hashing);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        given(userRepository.findCredentialsByEmail("bench@test.com")).willReturn(List.of(
+                new UserCredentialsRow(1L, "bench@test.com", passwordHasher.encode("test@123"), 1)
+        ));
+        JwtProperties jwtProperties = new JwtProperties();
+        RefreshTokenService refreshTokenService = new RefreshTokenService(
+                mock(RefreshTokenRepository.class),
+                userRepository,
+                new JWTUtils(jwtProperties, SECRET, apiMetrics),
+                mock(TokenRevocationService.class),
+                jwtProperties
+        );
+        CredentialsCache credentialsCache = new CredentialsCache(
+                new CredentialsCacheProperties(), new LocalCredentialsInvalidationBus(), null, Ticker.systemTicker()
+        );
+        userService = new UserService(userRepository, refreshTokenService, null, passwordHasher, apiMetrics, credentialsCache);
+        request = LoginRequest.builder().email("bench@test.com").password("test@123").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public AuthResponse login() throws AuthenticationException {
+        return userService.loginCustomer(request);
+    }
+
+    @Benchmark
+    public void meterUpdates() {
+        long start = System.nanoTime();
+        apiMetrics.loginPhase(LoginPhase.DB_LOOKUP).record(1_000_000, TimeUnit.NANOSECONDS);
+        apiMetrics.loginPhase(LoginPhase.PASSWORD_VERIFY).record(1_000_000, TimeUnit.NANOSECONDS);
+        apiMetrics.jwtSign("HS256").record(10_000, TimeUnit.NANOSECONDS);
+        apiMetrics.loginPhase(LoginPhase.TOKEN_ISSUE).record(100_000, TimeUnit.NANOSECONDS);
+        apiMetrics.login(LoginOutcome.SUCCESS).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
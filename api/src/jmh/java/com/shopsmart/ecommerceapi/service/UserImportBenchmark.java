@@ -0,0 +1,151 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.config.PasswordHashingProperties;
+import com.shopsmart.ecommerceapi.config.UserImportProperties;
+import com.shopsmart.ecommerceapi.dto.DataFormat;
+import com.shopsmart.ecommerceapi.dto.ImportSummary;
+import com.shopsmart.ecommerceapi.dto.UserImportRow;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Bulk import throughput in rows per second, for one default-sized chunk of NDJSON rows. The
+ * database is mocked, so this is the application's share: parsing, validation and, for plaintext
+ * rows, BCrypt on the import hashing pool. Plaintext rows scale with
+ * {@code users.import.hash-threads} up to the cores available; UserImportIT measures the whole
+ * path against Postgres.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class UserImportBenchmark {
+
+    private static final int ROWS = 500;
+
+    @State(Scope.Benchmark)
+    public static class Plaintext extends Fixture {
+
+        @Param({"4", "10"})
+        public int strength;
+
+        @Param({"1", "4"})
+        public int hashThreads;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            setUp(strength, hashThreads, false);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Prehashed extends Fixture {
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            setUp(10, 1, true);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ImportSummary plaintextPasswords(Plaintext fixture) throws IOException {
+        return fixture.importRows();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ImportSummary prehashedPasswords(Prehashed fixture) throws IOException {
+        return fixture.importRows();
+    }
+
+    public abstract static class Fixture {
+
+        private PasswordHasher passwordHasher;
+        private UserImportService userImportService;
+        private byte[] input;
+
+        void setUp(int strength, int hashThreads, boolean prehashed) throws IOException {
+            PasswordHashingProperties hashingProperties = new PasswordHashingProperties();
+            hashingProperties.setBcryptStrength(strength);
+            passwordHasher = new PasswordHasher(hashingProperties);
+            UserImportProperties importProperties = new UserImportProperties();
+            importProperties.setChunkSize(ROWS);
+            importProperties.setHashThreads(hashThreads);
+
+            RoleRegistry roleRegistry = mock(RoleRegistry.class);
+            given(roleRegistry.getRequired("customer")).willReturn(new Role(1, "customer"));
+            ObjectMapper objectMapper = new ObjectMapper();
+            userImportService = new UserImportService(
+                    mock(UserRepository.class),
+                    roleRegistry,
+                    passwordHasher,
+                    Validation.buildDefaultValidatorFactory().getValidator(),
+                    objectMapper,
+                    new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                    importProperties
+            );
+            ReflectionTestUtils.setField(userImportService, "entityManager", mock(EntityManager.class));
+
+            String passwordHash = prehashed ? passwordHasher.encode("s3cret-pass") : null;
+            StringBuilder rows = new StringBuilder();
+            for (int i = 0; i < ROWS; i++) {
+                UserImportRow row = UserImportRow.builder()
+                        .firstName("Jane")
+                        .lastName("Doe")
+                        .email("jane" + i + "@example.com")
+                        .phoneNumber("+212600000000")
+                        .password(prehashed ? null : "s3cret-pass")
+                        .passwordHash(passwordHash)
+                        .build();
+                rows.append(objectMapper.writeValueAsString(row)).append('\n');
+            }
+            input = rows.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        ImportSummary importRows() throws IOException {
+            ImportSummary summary = userImportService.importUsers(DataFormat.NDJSON, new ByteArrayInputStream(input), OutputStream.nullOutputStream());
+            if (summary.getImported() != ROWS) {
+                throw new IllegalStateException("Imported " + summary.getImported() + " of " + ROWS + " rows");
+            }
+            return summary;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            userImportService.shutdown();
+            passwordHasher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.shopsmart.ecommerceapi.util;
+
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.security.JwtPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the per-call key/parser construction JWTUtils used to do ({@code legacy*})
+ * with the keys and parser it now builds once at startup, and the typed principal extraction
+ * of compact tokens with a {@code Claims} lookup on the previous role-name tokens
+ * ({@code claimsPrincipal}). Token sizes are printed at setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JWTUtilsBenchmark {
+
+    static final String SECRET = "c2hvcHNtYXJ0LWJlbmNobWFyay1zZWNyZXQta2V5LTAxMjM0NTY3ODlhYmNkZWY=";
+
+    private static final Map<String, Integer> ROLE_IDS = Map.of("customer", 1, "admin", 2);
+
+    private JWTUtils jwtUtils;
+    private User user;
+    private String token;
+    private String roleNameToken;
+    private JwtParser sharedParser;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JWTUtils(new JwtProperties(), SECRET);
+        user = User.builder()
+                .email("bench@test.com")
+                .roles(Set.of(new Role(1, "customer")))
+                .build();
+        token = jwtUtils.generateToken(user);
+
+        // The format issued before role ids: role names and iat.
+        roleNameToken = Jwts
+                .builder()
+                .setHeaderParam("kid", JWTUtils.DEFAULT_KEY_ID)
+                .claim("roles", List.of("customer"))
+                .setId("AAAAAAAAAAAAAAAAAAAAAA")
+                .setSubject(user.getEmail())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 15))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+        sharedParser = Jwts
+                .parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build();
+        System.out.printf("%nToken size: %d bytes with role ids, %d bytes with role names%n", token.length(), roleNameToken.length());
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public String verify() {
+        return jwtUtils.extractEmail(token);
+    }
+
+    @Benchmark
+    public String legacySign() {
+        return Jwts
+                .builder()
+                .claim("roles", user.getRoles().toString())
+                .setClaims(new HashMap<>())
+                .setSubject(user.getEmail())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 7))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String legacyVerify() {
+        Claims claims = Jwts
+                .parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public JwtPrincipal typedPrincipal() {
+        return jwtUtils.extractPrincipal(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal claimsPrincipal() {
+        Claims claims = sharedParser.parseClaimsJws(roleNameToken).getBody();
+        List<?> roles = claims.get("roles", List.class);
+        return new JwtPrincipal(
+                null,
+                claims.getSubject(),
+                roles.stream().map(name -> ROLE_IDS.get(name.toString())).collect(Collectors.toUnmodifiableSet()),
+                claims.getExpiration().getTime(),
+                claims.getId()
+        );
+    }
+}
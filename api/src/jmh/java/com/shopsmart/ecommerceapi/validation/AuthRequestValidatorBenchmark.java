@@ -0,0 +1,95 @@
+package com.shopsmart.ecommerceapi.validation;
+
+import com.shopsmart.ecommerceapi.dto.RegisterRequest;
+import com.shopsmart.ecommerceapi.dto.UserImportRow;
+import com.shopsmart.ecommerceapi.model.ValidationSequenceOrder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration payload validation: {@link AuthRequestValidator} against Hibernate Validator with
+ * the {@link ValidationSequenceOrder} group sequence, for a valid payload and one failing two
+ * constraints. {@code importRowBeanValidation} is the per-row check of a CSV import, which still
+ * validates the {@link UserImportRow} with Hibernate Validator.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthRequestValidatorBenchmark {
+
+    private AuthRequestValidator validator;
+    private Validator beanValidator;
+    private RegisterRequest valid;
+    private RegisterRequest invalid;
+    private UserImportRow row;
+
+    @Setup
+    public void setUp() {
+        beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+        validator = new AuthRequestValidator(beanValidator);
+        valid = RegisterRequest.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("jane.doe@example.com")
+                .phoneNumber("+212600000000")
+                .password("s3cret-pass")
+                .build();
+        invalid = RegisterRequest.builder()
+                .firstName("Jane0")
+                .lastName("Doe")
+                .email("jane.doe.example.com")
+                .phoneNumber("+212600000000")
+                .password("s3cret-pass")
+                .build();
+        row = UserImportRow.builder()
+                .firstName(valid.getFirstName())
+                .lastName(valid.getLastName())
+                .email(valid.getEmail())
+                .phoneNumber(valid.getPhoneNumber())
+                .password(valid.getPassword())
+                .build();
+    }
+
+    @Benchmark
+    public List<AuthRequestValidator.Violation> validPayload() {
+        return validator.violations(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> validPayloadBeanValidation() {
+        return beanValidator.validate(valid, ValidationSequenceOrder.class);
+    }
+
+    @Benchmark
+    public List<AuthRequestValidator.Violation> invalidPayload() {
+        return validator.violations(invalid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> invalidPayloadBeanValidation() {
+        return beanValidator.validate(invalid, ValidationSequenceOrder.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserImportRow>> importRowBeanValidation() {
+        return beanValidator.validate(row, ValidationSequenceOrder.class);
+    }
+}
@@ -0,0 +1,16 @@
+package com.shopsmart.ecommerceapi.config;
+
+import com.shopsmart.ecommerceapi.security.credentials.CredentialsInvalidationBus;
+import com.shopsmart.ecommerceapi.security.credentials.LocalCredentialsInvalidationBus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CredentialsCacheConfig {
+
+    // Reaches this instance only; a shared transport declared as a @Primary bus takes over.
+    @Bean
+    public CredentialsInvalidationBus localCredentialsInvalidationBus() {
+        return new LocalCredentialsInvalidationBus();
+    }
+}
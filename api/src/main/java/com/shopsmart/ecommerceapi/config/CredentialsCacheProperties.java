@@ -0,0 +1,27 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "users.credentials-cache")
+public class CredentialsCacheProperties {
+
+    /**
+     * Off by default: with the in-process invalidation bus, an instance only learns of changes
+     * made through another one when its entry expires.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Upper bound on cached accounts; roughly 400 bytes per entry.
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * How long an entry is served after it was loaded, whatever the invalidations.
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,47 @@
+package com.shopsmart.ecommerceapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+/**
+ * Writes small, fixed-shape response bodies in one piece with a {@code Content-Length}. The
+ * regular Jackson converter streams without one, and Tomcat compresses every response of unknown
+ * length, whatever {@code server.compression.min-response-size} says.
+ */
+class FixedLengthJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Set<Class<?>> types;
+
+    FixedLengthJsonHttpMessageConverter(ObjectMapper objectMapper, Set<Class<?>> types) {
+        super(objectMapper);
+        this.types = Set.copyOf(types);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return types.contains(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] body = getObjectMapper().writeValueAsBytes(object);
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+}
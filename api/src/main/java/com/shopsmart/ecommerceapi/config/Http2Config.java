@@ -0,0 +1,27 @@
+package com.shopsmart.ecommerceapi.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class Http2Config {
+
+    // Boot adds the Http2Protocol for server.http2.enabled before connector customizers run.
+    // Compression is not configured here: Tomcat's HTTP/2 streams use server.compression.* from
+    // the HTTP/1.1 protocol they were upgraded from.
+    @Bean
+    public TomcatConnectorCustomizer http2ConnectorCustomizer(Http2Properties properties) {
+        return connector -> {
+            for (UpgradeProtocol upgradeProtocol : connector.findUpgradeProtocols()) {
+                if (upgradeProtocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(properties.getMaxConcurrentStreams());
+                    http2.setMaxConcurrentStreamExecution(properties.getMaxConcurrentStreamExecution());
+                    http2.setKeepAliveTimeout(properties.getKeepAliveTimeout().toMillis());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tomcat HTTP/2 settings not covered by {@code server.http2.*}. They apply to h2c, either
+ * upgraded from HTTP/1.1 or with prior knowledge, once {@code server.http2.enabled=true}.
+ */
+@Data
+@ConfigurationProperties(prefix = "http2")
+public class Http2Properties {
+
+    /**
+     * Streams a client may have open at once on one connection.
+     */
+    private long maxConcurrentStreams = 100;
+
+    /**
+     * Streams of one connection processed at the same time; the rest wait for a request thread.
+     */
+    private int maxConcurrentStreamExecution = 20;
+
+    /**
+     * How long an idle HTTP/2 connection is kept open.
+     */
+    private Duration keepAliveTimeout = Duration.ofSeconds(20);
+}
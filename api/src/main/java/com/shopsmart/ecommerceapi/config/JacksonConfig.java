@@ -0,0 +1,26 @@
+package com.shopsmart.ecommerceapi.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.shopsmart.ecommerceapi.dto.AuthJsonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Modules for the auto-configured {@code ObjectMapper}, the only one used for request and response
+ * bodies (see {@link WebConfig#configureMessageConverters}).
+ */
+@Configuration
+public class JacksonConfig {
+
+    // Replaces reflective getter, setter and constructor calls with generated lambdas.
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module authJsonModule() {
+        return new AuthJsonModule();
+    }
+}
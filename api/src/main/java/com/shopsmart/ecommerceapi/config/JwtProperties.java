@@ -0,0 +1,96 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    /**
+     * Signing keys, identified by the {@code kid} header. Every key is accepted for verification;
+     * new tokens are signed with the key that has the latest {@code activeFrom} not in the future.
+     * When empty, {@code JWT_SECRET_KEY} is used as the single key.
+     */
+    private List<SigningKey> keys = new ArrayList<>();
+
+    private Duration accessTokenValidity = Duration.ofMinutes(15);
+
+    private Duration refreshTokenValidity = Duration.ofDays(30);
+
+    private AuthCache authCache = new AuthCache();
+
+    private Revocation revocation = new Revocation();
+
+    private Jwks jwks = new Jwks();
+
+    @Data
+    public static class SigningKey {
+
+        private String id;
+
+        /**
+         * HS256 (shared {@code secret}) or ES256 ({@code private-key} and {@code public-key}).
+         * Only ES256 public keys are published in the JWKS, so other services can verify tokens
+         * without the secret.
+         */
+        private String algorithm = "HS256";
+
+        private String secret;
+
+        /**
+         * Base64 PKCS#8 encoding of a P-256 private key.
+         */
+        private String privateKey;
+
+        /**
+         * Base64 X.509 (SubjectPublicKeyInfo) encoding of the matching public key.
+         */
+        private String publicKey;
+
+        private Instant activeFrom;
+    }
+
+    @Data
+    public static class AuthCache {
+
+        /**
+         * Upper bound on verified tokens kept in memory; roughly 300 bytes per entry.
+         */
+        private long maxSize = 100_000;
+    }
+
+    @Data
+    public static class Revocation {
+
+        /**
+         * Revoked access tokens are grouped by expiry into buckets of this width; a bucket is
+         * dropped as a whole once all its tokens have expired.
+         */
+        private Duration bucketWidth = Duration.ofMinutes(1);
+
+        /**
+         * Revoked, not yet expired access tokens the denylist is sized for. Above it the false
+         * positive rate degrades gradually rather than failing.
+         */
+        private long expectedRevocations = 1_000_000;
+
+        private double falsePositiveRate = 1e-6;
+    }
+
+    @Data
+    public static class Jwks {
+
+        /**
+         * Cache-Control max-age of {@code /.well-known/jwks.json}. A new ES256 key has to be
+         * configured at least this long before its {@code activeFrom}, so that verifiers have
+         * picked it up by the time tokens are signed with it.
+         */
+        private Duration maxAge = Duration.ofMinutes(5);
+    }
+}
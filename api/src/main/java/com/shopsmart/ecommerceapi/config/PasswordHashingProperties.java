@@ -0,0 +1,28 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt log2 cost factor (4-31). Each step doubles hashing time.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * Threads dedicated to hashing; hashing is CPU bound so more threads than cores does not help.
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Hashing requests allowed to wait for a thread before new ones are rejected with a 503.
+     */
+    private int queueCapacity = 256;
+
+    private Duration timeout = Duration.ofSeconds(5);
+}
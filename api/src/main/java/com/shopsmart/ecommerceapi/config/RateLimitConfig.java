@@ -0,0 +1,18 @@
+package com.shopsmart.ecommerceapi.config;
+
+import com.shopsmart.ecommerceapi.security.ratelimit.LocalRateLimiter;
+import com.shopsmart.ecommerceapi.security.ratelimit.RateLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class RateLimitConfig {
+
+    // Counts per instance; a shared backend declared as a @Primary RateLimiter takes over.
+    @Bean
+    public RateLimiter localRateLimiter(RateLimitProperties properties) {
+        return new LocalRateLimiter(properties.getMaxKeys(), Clock.systemUTC());
+    }
+}
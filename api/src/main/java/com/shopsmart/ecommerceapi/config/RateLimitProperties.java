@@ -0,0 +1,34 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on tracked keys (emails and IPs) for the in-process limiter; roughly 150 bytes
+     * per key. Idle keys are evicted after twice their window.
+     */
+    private long maxKeys = 200_000;
+
+    private Limit loginPerEmail = new Limit(10, Duration.ofMinutes(5));
+    private Limit loginPerIp = new Limit(100, Duration.ofMinutes(1));
+    private Limit registerPerIp = new Limit(20, Duration.ofMinutes(1));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        private int requests;
+        private Duration window;
+    }
+}
@@ -0,0 +1,22 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "roles.registry")
+public class RoleRegistryProperties {
+
+    /**
+     * Roles that must exist in the roles table; the application refuses to start without them.
+     */
+    private List<String> required = new ArrayList<>(List.of("customer"));
+
+    /**
+     * How often the registry reloads the roles table, in milliseconds.
+     */
+    private long refreshIntervalMs = 600_000;
+}
@@ -0,0 +1,58 @@
+package com.shopsmart.ecommerceapi.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Refuses to start when an index the login, registration, token or listing queries rely on is missing,
+ * e.g. because a migration was skipped or an index was dropped by hand. Without them those
+ * queries still work, but as sequential scans.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(name = "schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier {
+
+    static final Set<String> REQUIRED_INDEXES = Set.of(
+            "ux_users_email_lower",
+            "idx_users_created_at_id",
+            "users_roles_pkey",
+            "idx_users_roles_roles_id",
+            "ux_roles_name",
+            "ux_refresh_tokens_token_hash",
+            "idx_refresh_tokens_family_id",
+            "revoked_access_tokens_pkey",
+            "idx_revoked_access_tokens_revoked_at"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SchemaIndexVerifier(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void verify() {
+        List<String> present = jdbcTemplate.queryForList(
+                "select indexname from pg_indexes where schemaname = current_schema() and tablename in ('users', 'roles', 'users_roles', 'refresh_tokens', 'revoked_access_tokens')",
+                String.class
+        );
+        Set<String> missing = new LinkedHashSet<>(REQUIRED_INDEXES);
+        present.forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes " + missing + "; run the Flyway migrations");
+        }
+        log.info("Verified {} required database indexes", REQUIRED_INDEXES.size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.shopsmart.ecommerceapi.config;
+
+import com.shopsmart.ecommerceapi.monitoring.SqlMonitoringListener;
+import com.shopsmart.ecommerceapi.monitoring.SqlRequestTrackingFilter;
+import com.shopsmart.ecommerceapi.monitoring.SqlStatistics;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Statement timing, slow-query logging and N+1 detection ({@code sql.monitoring.*}), in place of
+ * {@code spring.jpa.show-sql}, which prints every statement synchronously and is left to the dev
+ * profile. Results are served by {@code SqlStatsController}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public SqlMonitoringListener sqlMonitoringListener(SqlStatistics statistics, SqlMonitoringProperties properties) {
+        return new SqlMonitoringListener(statistics, properties.getSlowLogSampleRate());
+    }
+
+    @Bean
+    public SqlRequestTrackingFilter sqlRequestTrackingFilter(SqlStatistics statistics, SqlMonitoringProperties properties) {
+        return new SqlRequestTrackingFilter(statistics, properties.getNPlusOneThreshold());
+    }
+
+    // Static, and resolving the listener lazily, so that post-processing does not initialize
+    // other beans early. Boot's pool metrics and health checks unwrap the proxy.
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(ObjectProvider<SqlMonitoringListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
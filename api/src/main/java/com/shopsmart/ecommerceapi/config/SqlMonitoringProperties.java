@@ -0,0 +1,37 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sql.monitoring")
+public class SqlMonitoringProperties {
+
+    /**
+     * Time every JDBC statement and keep per-statement statistics.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Statements taking at least this long are slow: counted, and logged subject to
+     * {@code slow-log-sample-rate}.
+     */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /**
+     * Fraction, between 0 and 1, of slow statements that are logged.
+     */
+    private double slowLogSampleRate = 1.0;
+
+    /**
+     * A request running the same select this many times or more is reported as an N+1 pattern.
+     */
+    private int nPlusOneThreshold = 5;
+
+    /**
+     * Distinct normalized statements tracked; statements beyond it are counted together.
+     */
+    private int maxStatements = 1000;
+}
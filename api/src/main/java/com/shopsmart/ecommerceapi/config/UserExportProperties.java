@@ -0,0 +1,16 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "users.export")
+public class UserExportProperties {
+
+    /**
+     * Upper bound on the streamed export response; other async requests keep the MVC default.
+     */
+    private Duration requestTimeout = Duration.ofHours(2);
+}
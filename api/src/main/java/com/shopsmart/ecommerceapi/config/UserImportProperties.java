@@ -0,0 +1,20 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "users.import")
+public class UserImportProperties {
+
+    /**
+     * Rows de-duplicated against the database and inserted per transaction.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Threads hashing the plaintext passwords of imported rows. They are separate from the login
+     * hashing pool and fewer than the cores, so an import leaves CPU for logins.
+     */
+    private int hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+}
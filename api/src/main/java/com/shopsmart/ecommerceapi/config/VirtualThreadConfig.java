@@ -0,0 +1,64 @@
+package com.shopsmart.ecommerceapi.config;
+
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Virtual-thread mode ({@code threads.virtual.enabled=true}). Tomcat hands every request to a new
+ * virtual thread, so requests blocked on Postgres no longer hold one of a fixed number of platform
+ * threads; the Hikari pool ({@code spring.datasource.hikari.maximum-pool-size}) becomes the limit
+ * on concurrent database work, and waiting requests queue there for at most
+ * {@code connection-timeout}.
+ * <p>
+ * Password hashing stays on the bounded platform pool of {@link PasswordHasher}: BCrypt is CPU
+ * bound, so virtual threads would not make it faster, and the pool is what sheds load with a 503.
+ * A virtual request thread waiting for a hash unmounts and costs nothing.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    private final ExecutorService requestExecutor = VirtualThreads.newPerTaskExecutor("http-virtual-");
+    private final ExecutorService asyncExecutor = VirtualThreads.newPerTaskExecutor("mvc-async-virtual-");
+
+    public VirtualThreadConfig() {
+        log.info("Serving requests on virtual threads");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            VirtualThreadProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new VirtualThreadPinningMonitor(properties.getPinnedThreshold(), meterRegistry.getIfAvailable());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(asyncExecutor));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        requestExecutor.shutdown();
+        asyncExecutor.shutdown();
+    }
+}
@@ -0,0 +1,22 @@
+package com.shopsmart.ecommerceapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "threads.virtual")
+public class VirtualThreadProperties {
+
+    /**
+     * Run Tomcat requests and async MVC work on virtual threads. Needs JDK 21 or later.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Pinned periods (a virtual thread blocking while it cannot unmount, e.g. inside synchronized)
+     * longer than this are logged and counted in {@code jvm.threads.virtual.pinned}.
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,41 @@
+package com.shopsmart.ecommerceapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.security.RoleCheckInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private RoleCheckInterceptor roleCheckInterceptor;
+
+    @Autowired
+    private HttpMessageConverters httpMessageConverters;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(roleCheckInterceptor);
+    }
+
+    // With @EnableWebMvc, MVC would otherwise create its own ObjectMapper next to the
+    // auto-configured one and without its modules and spring.jackson.* settings.
+    // Token responses come first so they stay below the compression threshold.
+    @Override
+    public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new FixedLengthJsonHttpMessageConverter(objectMapper, Set.of(AuthResponse.class)));
+        converters.addAll(httpMessageConverters.getConverters());
+    }
+}
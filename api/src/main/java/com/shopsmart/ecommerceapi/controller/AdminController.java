@@ -0,0 +1,25 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.shopsmart.ecommerceapi.security.RequiresRole;
+import com.shopsmart.ecommerceapi.service.RolesChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiresRole("admin")
+public class AdminController {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostMapping("/roles/refresh")
+    private ResponseEntity<Void> refreshRoles() {
+        eventPublisher.publishEvent(new RolesChangedEvent("admin request"));
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.security.JsonWebKeySet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class JwksController {
+
+    private static final String JWK_SET_MEDIA_TYPE = "application/jwk-set+json";
+
+    @Autowired
+    private JsonWebKeySet jsonWebKeySet;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    // Conditional requests are answered with 304 by Spring, from the ETag set here.
+    @GetMapping(value = "/.well-known/jwks.json", produces = JWK_SET_MEDIA_TYPE)
+    private ResponseEntity<byte[]> jwks() {
+        return ResponseEntity
+                .ok()
+                .eTag(jsonWebKeySet.etag())
+                .cacheControl(CacheControl.maxAge(jwtProperties.getJwks().getMaxAge()).cachePublic())
+                .body(jsonWebKeySet.json());
+    }
+}
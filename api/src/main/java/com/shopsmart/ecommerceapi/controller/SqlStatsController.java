@@ -0,0 +1,32 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.shopsmart.ecommerceapi.dto.SqlStatsReport;
+import com.shopsmart.ecommerceapi.monitoring.SqlStatistics;
+import com.shopsmart.ecommerceapi.security.RequiresRole;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/sql-stats")
+public class SqlStatsController {
+
+    @Autowired
+    private SqlStatistics sqlStatistics;
+
+    @GetMapping
+    @RequiresRole("admin")
+    private ResponseEntity<SqlStatsReport> sqlStats() {
+        return ResponseEntity.ok(sqlStatistics.report());
+    }
+
+    @DeleteMapping
+    @RequiresRole("admin")
+    private ResponseEntity<Void> resetSqlStats() {
+        sqlStatistics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.shopsmart.ecommerceapi.config.UserExportProperties;
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.DataFormat;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.dto.RefreshTokenRequest;
+import com.shopsmart.ecommerceapi.dto.RegisterRequest;
+import com.shopsmart.ecommerceapi.dto.UserFilter;
+import com.shopsmart.ecommerceapi.dto.UserPage;
+import com.shopsmart.ecommerceapi.security.RequiresRole;
+import com.shopsmart.ecommerceapi.security.ratelimit.AuthRateLimits;
+import com.shopsmart.ecommerceapi.service.RefreshTokenService;
+import com.shopsmart.ecommerceapi.service.UserExportService;
+import com.shopsmart.ecommerceapi.service.UserImportService;
+import com.shopsmart.ecommerceapi.service.UserListingService;
+import com.shopsmart.ecommerceapi.service.UserService;
+import com.shopsmart.ecommerceapi.validation.AuthRequestValidator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.naming.AuthenticationException;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserController {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserExportProperties userExportProperties;
+
+    @Autowired
+    private UserListingService userListingService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private AuthRateLimits authRateLimits;
+
+    @Autowired
+    private AuthRequestValidator authRequestValidator;
+
+    @GetMapping
+    @RequiresRole("admin")
+    private ResponseEntity<UserPage> listUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+            @RequestParam(required = false) String emailPrefix,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + UserListingService.DEFAULT_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(userListingService.listUsers(
+                new UserFilter(role, createdFrom, createdTo, emailPrefix),
+                cursor,
+                limit
+        ));
+    }
+
+    @PostMapping("/register")
+    private ResponseEntity<AuthResponse> registerCustomer(
+            @RequestBody RegisterRequest registerRequest,
+            HttpServletRequest request
+    ) {
+        authRequestValidator.validate(registerRequest);
+        authRateLimits.checkRegister(request.getRemoteAddr());
+        return new ResponseEntity<>(
+                userService.registerCustomer(registerRequest),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PostMapping("/login")
+    private ResponseEntity<AuthResponse> loginCustomer(
+            @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
+    ) throws AuthenticationException {
+        authRequestValidator.validate(request);
+        authRateLimits.checkLogin(httpRequest.getRemoteAddr(), request.getEmail());
+        return ResponseEntity.ok(userService.loginCustomer(request));
+    }
+
+    @PostMapping("/token/refresh")
+    private ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(refreshTokenService.refresh(request.getRefreshToken()));
+    }
+
+    @PostMapping("/token/revoke")
+    private ResponseEntity<Void> revokeToken(@Valid @RequestBody RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @RequiresRole("admin")
+    private void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        userImportService.importUsers(
+                DataFormat.fromMediaType(request.getContentType()),
+                request.getInputStream(),
+                response.getOutputStream()
+        );
+    }
+
+    @GetMapping("/export")
+    @RequiresRole("admin")
+    private WebAsyncTask<Void> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response
+    ) {
+        DataFormat dataFormat = DataFormat.fromName(format);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(dataFormat.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("users." + dataFormat.name().toLowerCase(Locale.ROOT))
+                .build()
+                .toString());
+        // Its own timeout: the MVC default bounds every other async request.
+        return new WebAsyncTask<>(userExportProperties.getRequestTimeout().toMillis(), () -> {
+            userExportService.export(dataFormat, response.getOutputStream());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+
+/**
+ * Streaming (de)serializers for the fixed-shape auth payloads, which are read and written on
+ * every login, registration and refresh. They produce and accept the same JSON as the default
+ * bean (de)serializers, including ignoring unknown properties, without introspection or a
+ * property map lookup per field.
+ */
+public class AuthJsonModule extends SimpleModule {
+
+    private static final SerializedString TOKEN = new SerializedString("token");
+    private static final SerializedString REFRESH_TOKEN = new SerializedString("refreshToken");
+    private static final SerializedString EXPIRES_IN = new SerializedString("expiresIn");
+
+    public AuthJsonModule() {
+        super("AuthJsonModule");
+        addSerializer(AuthResponse.class, new AuthResponseSerializer());
+        addDeserializer(LoginRequest.class, new LoginRequestDeserializer());
+        addDeserializer(RefreshTokenRequest.class, new RefreshTokenRequestDeserializer());
+    }
+
+    static final class AuthResponseSerializer extends JsonSerializer<AuthResponse> {
+
+        @Override
+        public void serialize(AuthResponse value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(TOKEN);
+            gen.writeString(value.getToken());
+            gen.writeFieldName(REFRESH_TOKEN);
+            gen.writeString(value.getRefreshToken());
+            gen.writeFieldName(EXPIRES_IN);
+            if (value.getExpiresIn() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value.getExpiresIn());
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public Class<AuthResponse> handledType() {
+            return AuthResponse.class;
+        }
+    }
+
+    static final class LoginRequestDeserializer extends JsonDeserializer<LoginRequest> {
+
+        @Override
+        public LoginRequest deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            LoginRequest request = new LoginRequest();
+            for (String field = firstFieldName(p, ctxt, LoginRequest.class); field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "email" -> request.setEmail(readString(p, ctxt));
+                    case "password" -> request.setPassword(readString(p, ctxt));
+                    default -> skipUnknown(p, ctxt, request, field);
+                }
+            }
+            return request;
+        }
+    }
+
+    static final class RefreshTokenRequestDeserializer extends JsonDeserializer<RefreshTokenRequest> {
+
+        @Override
+        public RefreshTokenRequest deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            RefreshTokenRequest request = new RefreshTokenRequest();
+            for (String field = firstFieldName(p, ctxt, RefreshTokenRequest.class); field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                if (field.equals("refreshToken")) {
+                    request.setRefreshToken(readString(p, ctxt));
+                } else {
+                    skipUnknown(p, ctxt, request, field);
+                }
+            }
+            return request;
+        }
+    }
+
+    // Jackson hands over either the START_OBJECT token or, from a buffered parser, the first FIELD_NAME.
+    private static String firstFieldName(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        if (p.isExpectedStartObjectToken()) {
+            return p.nextFieldName();
+        }
+        if (p.hasToken(JsonToken.FIELD_NAME)) {
+            return p.currentName();
+        }
+        throw ctxt.wrongTokenException(p, type, JsonToken.START_OBJECT, null);
+    }
+
+    // Scalars are coerced to their text as the default String deserializer does.
+    private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return p.getValueAsString();
+        }
+        return (String) ctxt.handleUnexpectedToken(String.class, p);
+    }
+
+    private static void skipUnknown(JsonParser p, DeserializationContext ctxt, Object bean, String field) throws IOException {
+        ctxt.handleUnknownProperty(p, null, bean, field);
+        p.skipChildren();
+    }
+}
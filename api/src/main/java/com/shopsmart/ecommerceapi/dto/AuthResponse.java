@@ -14,4 +14,10 @@ import java.io.Serializable;
 public class AuthResponse {
 
     private String token;
+    private String refreshToken;
+
+    /**
+     * Seconds until {@code token} expires.
+     */
+    private Long expiresIn;
 }
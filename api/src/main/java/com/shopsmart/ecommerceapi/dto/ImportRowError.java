@@ -0,0 +1,17 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class ImportRowError {
+
+    private long line;
+    private String email;
+    private String message;
+}
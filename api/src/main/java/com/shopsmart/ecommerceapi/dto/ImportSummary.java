@@ -0,0 +1,25 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class ImportSummary {
+
+    private long imported;
+    private long rejected;
+    private long elapsedMillis;
+    private boolean aborted;
+
+    /**
+     * Why the import stopped before the end of the input; only set when {@code aborted}.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+}
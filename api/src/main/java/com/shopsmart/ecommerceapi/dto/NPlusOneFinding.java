@@ -0,0 +1,25 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class NPlusOneFinding {
+
+    /**
+     * Method and route pattern, e.g. {@code GET /api/v1/users}.
+     */
+    private String endpoint;
+    private String sql;
+
+    /**
+     * Requests in which the statement ran at least {@code sql.monitoring.n-plus-one-threshold} times.
+     */
+    private long requests;
+    private int maxExecutionsPerRequest;
+}
@@ -0,0 +1,44 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import com.shopsmart.ecommerceapi.model.SecondValidation;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registration payload. The constraints document the rules, including the plaintext password
+ * rules that {@code User}, which stores the hash, does not carry; requests are checked by
+ * {@code AuthRequestValidator}, which implements them without Bean Validation.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class RegisterRequest {
+
+    @NotBlank(message = "First name is required")
+    @Pattern(regexp = "^[a-zA-Z]{0,45}$", message = "Please use a valid first name")
+    private String firstName;
+
+    @NotBlank(message = "Last name is required")
+    @Pattern(regexp = "^[a-zA-Z]{0,45}$", message = "Please use a valid last name")
+    private String lastName;
+
+    @Size(max = 256, message = "Please use a valid email")
+    @NotBlank(message = "Email is required")
+    @Email(message = "Please use a valid email")
+    private String email;
+
+    @NotBlank(message = "Phone number is required")
+    private String phoneNumber;
+
+    @Size(max = 20, message = "Password must not exceed 20 characters length")
+    @NotBlank(message = "Password is required")
+    @Size(min = 8, message = "Password must be at least 8 characters long", groups = SecondValidation.class)
+    private String password;
+}
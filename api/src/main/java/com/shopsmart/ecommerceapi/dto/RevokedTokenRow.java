@@ -0,0 +1,6 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import java.time.Instant;
+
+public record RevokedTokenRow(String tokenId, Instant expiresAt) {
+}
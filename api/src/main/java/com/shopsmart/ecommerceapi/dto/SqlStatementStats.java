@@ -0,0 +1,26 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class SqlStatementStats {
+
+    /**
+     * Normalized statement, without literals or bind values.
+     */
+    private String sql;
+    private long count;
+    private long slowCount;
+    private double totalMillis;
+    private double meanMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+}
@@ -0,0 +1,31 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class SqlStatsReport {
+
+    /**
+     * Start of the collection period: application start or the last reset.
+     */
+    private Instant since;
+
+    /**
+     * Ordered by total time, highest first.
+     */
+    private List<SqlStatementStats> statements;
+
+    // Jackson would otherwise derive "nplusOne" from the getter.
+    @JsonProperty("nPlusOne")
+    private List<NPlusOneFinding> nPlusOne;
+}
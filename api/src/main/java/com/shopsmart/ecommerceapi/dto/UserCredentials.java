@@ -0,0 +1,27 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * What login needs from a user: id, email, stored password hash and role ids, read in a single
+ * query instead of loading the {@code User} entity and its roles.
+ */
+public record UserCredentials(Long id, String email, String password, Set<Integer> roleIds) {
+
+    public static Optional<UserCredentials> fromRows(List<UserCredentialsRow> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        UserCredentialsRow first = rows.get(0);
+        Set<Integer> roleIds = new HashSet<>();
+        for (UserCredentialsRow row : rows) {
+            if (row.roleId() != null) {
+                roleIds.add(row.roleId());
+            }
+        }
+        return Optional.of(new UserCredentials(first.id(), first.email(), first.password(), Set.copyOf(roleIds)));
+    }
+}
@@ -0,0 +1,8 @@
+package com.shopsmart.ecommerceapi.dto;
+
+/**
+ * One row of the login query: a user joined with one of its roles ({@code roleId} is null for a
+ * user without roles).
+ */
+public record UserCredentialsRow(Long id, String email, String password, Integer roleId) {
+}
@@ -0,0 +1,44 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import com.shopsmart.ecommerceapi.exception.InvalidRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position in the admin user listing: the {@code (createdAt, id)} of the last user on a page.
+ * Encoded as URL-safe Base64 so clients treat it as opaque. {@code createdAt} keeps the
+ * database's sub-millisecond precision, otherwise users created within the same millisecond
+ * could be skipped.
+ */
+public record UserCursor(Instant createdAt, long id) {
+
+    public static UserCursor of(UserListRow row) {
+        Date createdAt = row.createdAt();
+        Instant instant = createdAt instanceof Timestamp timestamp ? timestamp.toInstant() : createdAt.toInstant();
+        return new UserCursor(instant, row.id());
+    }
+
+    public String encode() {
+        String value = createdAt.getEpochSecond() + "." + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static UserCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int dot = value.indexOf('.');
+            int colon = value.indexOf(':', dot + 1);
+            Instant createdAt = Instant.ofEpochSecond(
+                    Long.parseLong(value.substring(0, dot)),
+                    Long.parseLong(value.substring(dot + 1, colon))
+            );
+            return new UserCursor(createdAt, Long.parseLong(value.substring(colon + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequest("Invalid cursor");
+        }
+    }
+}
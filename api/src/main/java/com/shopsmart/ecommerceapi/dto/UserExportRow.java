@@ -0,0 +1,18 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import java.util.Date;
+
+/**
+ * One row of the export cursor: a user joined with one of its roles, ordered by user id so that
+ * the rows of a user are adjacent.
+ */
+public record UserExportRow(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        Date createdAt,
+        String roleName
+) {
+}
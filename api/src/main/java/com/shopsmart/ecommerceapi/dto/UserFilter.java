@@ -0,0 +1,15 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import java.time.Instant;
+
+/**
+ * Optional criteria of the admin user listing; {@code createdFrom} is inclusive and
+ * {@code createdTo} exclusive.
+ */
+public record UserFilter(
+        String role,
+        Instant createdFrom,
+        Instant createdTo,
+        String emailPrefix
+) {
+}
@@ -0,0 +1,51 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.shopsmart.ecommerceapi.model.SecondValidation;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One user of a bulk import. Either {@code password} (plaintext, validated and hashed like a
+ * registration) or {@code passwordHash} (an existing BCrypt hash, stored as-is) must be set. The
+ * constraints are those of {@link RegisterRequest}, checked with the
+ * {@code ValidationSequenceOrder} group sequence.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserImportRow {
+
+    public static final String[] CSV_COLUMNS = {"firstName", "lastName", "email", "phoneNumber", "password", "passwordHash"};
+
+    @NotBlank(message = "First name is required")
+    @Pattern(regexp = "^[a-zA-Z]{0,45}$", message = "Please use a valid first name")
+    private String firstName;
+
+    @NotBlank(message = "Last name is required")
+    @Pattern(regexp = "^[a-zA-Z]{0,45}$", message = "Please use a valid last name")
+    private String lastName;
+
+    @Size(max = 256, message = "Please use a valid email")
+    @NotBlank(message = "Email is required")
+    @Email(message = "Please use a valid email")
+    private String email;
+
+    @NotBlank(message = "Phone number is required")
+    private String phoneNumber;
+
+    @Size(max = 20, message = "Password must not exceed 20 characters length")
+    @NotBlank(message = "Password is required")
+    @Size(min = 8, message = "Password must be at least 8 characters long", groups = SecondValidation.class)
+    private String password;
+
+    private String passwordHash;
+}
@@ -0,0 +1,13 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import java.util.Date;
+
+public record UserListRow(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        Date createdAt
+) {
+}
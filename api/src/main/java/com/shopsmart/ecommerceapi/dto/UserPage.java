@@ -0,0 +1,22 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class UserPage {
+
+    private List<UserSummary> items;
+
+    /**
+     * Opaque token for the next page, or {@code null} on the last page.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,4 @@
+package com.shopsmart.ecommerceapi.dto;
+
+public record UserRoleRow(Long userId, String roleName) {
+}
@@ -0,0 +1,6 @@
+package com.shopsmart.ecommerceapi.exception;
+
+public class AccessDenied extends RuntimeException {
+
+    public AccessDenied(String message) { super(message, null, false, false); }
+}
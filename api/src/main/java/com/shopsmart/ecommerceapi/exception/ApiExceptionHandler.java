@@ -0,0 +1,102 @@
+package com.shopsmart.ecommerceapi.exception;
+
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import javax.naming.AuthenticationException;
+
+/**
+ * Bodies are {@link ApiException}s, rendered through {@link ErrorResponses} so that repeated
+ * errors, which is most of them, are not serialized again. The client error exceptions handled
+ * here are created without a stack trace: it is never logged, and filling it in is most of what
+ * throwing them costs. Each answered error is counted by exception type in {@code api.errors}.
+ */
+@ControllerAdvice
+public class ApiExceptionHandler {
+
+    private final ErrorResponses errorResponses;
+    private final ApiMetrics metrics;
+
+    @Autowired
+    public ApiExceptionHandler(ErrorResponses errorResponses, ApiMetrics metrics) {
+        this.errorResponses = errorResponses;
+        this.metrics = metrics;
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<byte[]> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+        metrics.error(e, HttpStatus.BAD_REQUEST);
+        // Only the first error is reported; the binding result is not walked past it.
+        BindingResult bindingResult = e.getBindingResult();
+        FieldError fieldError = bindingResult.getFieldError();
+        ObjectError error = fieldError != null ? fieldError : bindingResult.getGlobalError();
+        String message = error != null ? error.getDefaultMessage() : "Invalid request";
+        return errorResponses.response(HttpStatus.BAD_REQUEST, message);
+    }
+
+    @ExceptionHandler(ResourceAlreadyExists.class)
+    public ResponseEntity<byte[]> handleResourceAlreadyExistsException(ResourceAlreadyExists e) {
+        metrics.error(e, HttpStatus.CONFLICT);
+        return errorResponses.response(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler(ResourceDoesNotExist.class)
+    public ResponseEntity<byte[]> handleResourceDoesNotExistException(ResourceDoesNotExist e) {
+        metrics.error(e, HttpStatus.BAD_REQUEST);
+        return errorResponses.response(HttpStatus.BAD_REQUEST, e.getMessage(), "email");
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<byte[]> handleAuthenticationException(AuthenticationException e) {
+        metrics.error(e, HttpStatus.BAD_REQUEST);
+        return errorResponses.response(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(ServiceUnavailable.class)
+    public ResponseEntity<byte[]> handleServiceUnavailableException(ServiceUnavailable e) {
+        metrics.error(e, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponses.body(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null));
+    }
+
+    @ExceptionHandler(AuthenticationRequired.class)
+    public ResponseEntity<byte[]> handleAuthenticationRequiredException(AuthenticationRequired e) {
+        metrics.error(e, HttpStatus.UNAUTHORIZED);
+        return errorResponses.response(HttpStatus.UNAUTHORIZED, e.getMessage());
+    }
+
+    @ExceptionHandler(AccessDenied.class)
+    public ResponseEntity<byte[]> handleAccessDeniedException(AccessDenied e) {
+        metrics.error(e, HttpStatus.FORBIDDEN);
+        return errorResponses.response(HttpStatus.FORBIDDEN, e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidRequest.class)
+    public ResponseEntity<byte[]> handleInvalidRequestException(InvalidRequest e) {
+        metrics.error(e, HttpStatus.BAD_REQUEST);
+        return errorResponses.response(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(TooManyRequests.class)
+    public ResponseEntity<byte[]> handleTooManyRequestsException(TooManyRequests e) {
+        metrics.error(e, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponses.body(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), null));
+    }
+}
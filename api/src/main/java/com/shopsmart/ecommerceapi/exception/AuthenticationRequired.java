@@ -0,0 +1,6 @@
+package com.shopsmart.ecommerceapi.exception;
+
+public class AuthenticationRequired extends RuntimeException {
+
+    public AuthenticationRequired(String message) { super(message, null, false, false); }
+}
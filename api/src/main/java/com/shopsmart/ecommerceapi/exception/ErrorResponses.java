@@ -0,0 +1,118 @@
+package com.shopsmart.ecommerceapi.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Serialized {@link ApiException} bodies. Everything but the timestamp depends only on status,
+ * message and field, so each distinct error is serialized once and kept as the bytes before and
+ * after its timestamp; a response only formats the current time between them.
+ */
+@Component
+public class ErrorResponses {
+
+    // Messages come from code and constraint annotations. The cap only guards against messages
+    // that interpolate request values; those are serialized per response instead.
+    private static final int MAX_TEMPLATES = 1024;
+    private static final Date SENTINEL = new Date(946_684_800_123L);
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Key, Template> templates = new ConcurrentHashMap<>();
+    private final boolean numericTimestamps;
+
+    @Autowired
+    public ErrorResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.numericTimestamps = serialize(SENTINEL).equals(Long.toString(SENTINEL.getTime()));
+    }
+
+    public ResponseEntity<byte[]> response(HttpStatus status, String message) {
+        return response(status, message, null);
+    }
+
+    public ResponseEntity<byte[]> response(HttpStatus status, String message, String field) {
+        return ResponseEntity
+                .status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(status, message, field));
+    }
+
+    public byte[] body(HttpStatus status, String message, String field) {
+        Key key = new Key(status, message, field);
+        Template template = templates.get(key);
+        if (template == null) {
+            template = Template.render(objectMapper, key);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.putIfAbsent(key, template);
+            }
+        }
+        return template.withTimestamp(timestamp());
+    }
+
+    private byte[] timestamp() {
+        long now = System.currentTimeMillis();
+        if (numericTimestamps) {
+            return Long.toString(now).getBytes(StandardCharsets.US_ASCII);
+        }
+        return serialize(new Date(now)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Key(HttpStatus status, String message, String field) {
+    }
+
+    private record Template(byte[] prefix, byte[] suffix) {
+
+        static Template render(ObjectMapper objectMapper, Key key) {
+            ApiException apiException = ApiException
+                    .builder()
+                    .message(key.message())
+                    .timestamp(SENTINEL)
+                    .httpStatus(key.status())
+                    .field(key.field())
+                    .build();
+            try {
+                String json = objectMapper.writeValueAsString(apiException);
+                String field = "\"timestamp\":";
+                String timestamp = objectMapper.writeValueAsString(SENTINEL);
+                int fieldStart = json.indexOf(field + timestamp);
+                if (fieldStart < 0) {
+                    throw new IllegalStateException("No timestamp in serialized ApiException: " + json);
+                }
+                int start = fieldStart + field.length();
+                return new Template(
+                        json.substring(0, start).getBytes(StandardCharsets.UTF_8),
+                        json.substring(start + timestamp.length()).getBytes(StandardCharsets.UTF_8)
+                );
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        byte[] withTimestamp(byte[] timestamp) {
+            byte[] body = Arrays.copyOf(prefix, prefix.length + timestamp.length + suffix.length);
+            System.arraycopy(timestamp, 0, body, prefix.length, timestamp.length);
+            System.arraycopy(suffix, 0, body, prefix.length + timestamp.length, suffix.length);
+            return body;
+        }
+    }
+}
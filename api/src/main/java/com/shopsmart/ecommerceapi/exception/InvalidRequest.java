@@ -0,0 +1,6 @@
+package com.shopsmart.ecommerceapi.exception;
+
+public class InvalidRequest extends RuntimeException {
+
+    public InvalidRequest(String message) { super(message, null, false, false); }
+}
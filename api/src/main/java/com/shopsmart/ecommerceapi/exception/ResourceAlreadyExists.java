@@ -2,5 +2,5 @@ package com.shopsmart.ecommerceapi.exception;
 
 public class ResourceAlreadyExists extends RuntimeException {
 
-    public ResourceAlreadyExists(String message) { super(message); }
+    public ResourceAlreadyExists(String message) { super(message, null, false, false); }
 }
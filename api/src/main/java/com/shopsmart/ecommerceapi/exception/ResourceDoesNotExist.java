@@ -5,11 +5,10 @@ import lombok.Getter;
 @Getter
 public class ResourceDoesNotExist extends RuntimeException {
 
-    private String message;
-    private String field;
+    private final String field;
 
     public ResourceDoesNotExist(String message, String field) {
-        this.message = message;
+        super(message, null, false, false);
         this.field = field;
     }
 }
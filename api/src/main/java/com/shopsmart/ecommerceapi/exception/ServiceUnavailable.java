@@ -0,0 +1,6 @@
+package com.shopsmart.ecommerceapi.exception;
+
+public class ServiceUnavailable extends RuntimeException {
+
+    public ServiceUnavailable(String message) { super(message); }
+}
@@ -0,0 +1,14 @@
+package com.shopsmart.ecommerceapi.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequests extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequests(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,5 +1,6 @@
 package com.shopsmart.ecommerceapi.model;
 
+import com.shopsmart.ecommerceapi.security.credentials.CredentialsCacheInvalidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -8,7 +9,9 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -19,6 +22,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(CredentialsCacheInvalidator.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -26,7 +30,8 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(
@@ -58,23 +63,26 @@ public class User {
     private String phoneNumber;
 
     @Column(
-            length = 20
+            length = 100
     )
-    @Size(max = 20, message = "Password must not exceed 20 characters length")
+    // The BCrypt hash; the plaintext rules are on RegisterRequest and UserImportRow.
     @NotBlank(message = "Password is required")
-    @Size(min = 8, message = "Password must be at least 8 characters long", groups = SecondValidation.class)
     private String password;
 
     @CreationTimestamp
     @Temporal(TemporalType.TIMESTAMP)
     @Column(
-            name = "created_at"
+            name = "created_at",
+            nullable = false,
+            updatable = false
     )
     private Date createdAt;
 
     @ManyToMany(
-            fetch = FetchType.EAGER
+            fetch = FetchType.LAZY
     )
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinTable(
             name = "users_roles",
@@ -0,0 +1,137 @@
+package com.shopsmart.ecommerceapi.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Timers and counters for the authentication path, exported through Actuator, including
+ * {@code /actuator/prometheus}.
+ * <p>
+ * Every tag value comes from a fixed set: an enum constant, a signing algorithm, or the name of an
+ * exception the error handler knows about. All meters but the error counters are registered up
+ * front, so recording is a field read and an add; the timers publish histogram buckets, bounded by
+ * their expected range, so percentiles can be aggregated across instances.
+ */
+@Component
+public class ApiMetrics {
+
+    public enum LoginOutcome { SUCCESS, UNKNOWN_EMAIL, WRONG_PASSWORD, ERROR }
+
+    public enum LoginPhase { DB_LOOKUP, PASSWORD_VERIFY, PASSWORD_REHASH, TOKEN_ISSUE }
+
+    public enum RegisterOutcome { SUCCESS, EMAIL_TAKEN, ERROR }
+
+    public enum RegisterPhase { PASSWORD_HASH, DB_INSERT, TOKEN_ISSUE }
+
+    public enum TokenVerification { VALID, EXPIRED, INVALID }
+
+    private static final Duration AUTH_MIN = Duration.ofMillis(1);
+    private static final Duration AUTH_MAX = Duration.ofSeconds(10);
+    private static final Duration JWT_MIN = Duration.ofNanos(1_000);
+    private static final Duration JWT_MAX = Duration.ofMillis(100);
+
+    private final MeterRegistry registry;
+    private final Timer[] login;
+    private final Timer[] loginPhases;
+    private final Timer[] register;
+    private final Timer[] registerPhases;
+    private final Timer[] jwtVerify;
+    private final Map<String, Timer> jwtSign;
+    private final ConcurrentMap<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ApiMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Meters of a composite without registries record nothing.
+        this(meterRegistry.getIfAvailable(CompositeMeterRegistry::new));
+    }
+
+    public ApiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.login = timers("auth.login", "outcome", LoginOutcome.values(), AUTH_MIN, AUTH_MAX);
+        this.loginPhases = timers("auth.login.phase", "phase", LoginPhase.values(), AUTH_MIN, AUTH_MAX);
+        this.register = timers("auth.register", "outcome", RegisterOutcome.values(), AUTH_MIN, AUTH_MAX);
+        this.registerPhases = timers("auth.register.phase", "phase", RegisterPhase.values(), AUTH_MIN, AUTH_MAX);
+        this.jwtVerify = timers("jwt.verify", "outcome", TokenVerification.values(), JWT_MIN, JWT_MAX);
+        this.jwtSign = Map.of(
+                "HS256", timer("jwt.sign", "algorithm", "HS256", JWT_MIN, JWT_MAX),
+                "ES256", timer("jwt.sign", "algorithm", "ES256", JWT_MIN, JWT_MAX)
+        );
+    }
+
+    public Timer login(LoginOutcome outcome) {
+        return login[outcome.ordinal()];
+    }
+
+    public Timer loginPhase(LoginPhase phase) {
+        return loginPhases[phase.ordinal()];
+    }
+
+    public Timer register(RegisterOutcome outcome) {
+        return register[outcome.ordinal()];
+    }
+
+    public Timer registerPhase(RegisterPhase phase) {
+        return registerPhases[phase.ordinal()];
+    }
+
+    public Timer jwtVerify(TokenVerification verification) {
+        return jwtVerify[verification.ordinal()];
+    }
+
+    /**
+     * @param algorithm JWS algorithm name; the application only signs with HS256 and ES256
+     */
+    public Timer jwtSign(String algorithm) {
+        Timer timer = jwtSign.get(algorithm);
+        if (timer == null) {
+            throw new IllegalArgumentException("Unsupported JWT algorithm: " + algorithm);
+        }
+        return timer;
+    }
+
+    /**
+     * Counts an error answered by the exception handler. Only the handled exception types reach
+     * this, so the {@code exception} tag stays low-cardinality; each type is always answered with
+     * the same status.
+     */
+    public void error(Throwable e, HttpStatusCode status) {
+        Counter counter = errors.get(e.getClass());
+        if (counter == null) {
+            counter = errors.computeIfAbsent(e.getClass(), type -> Counter.builder("api.errors")
+                    .description("Errors answered by the API exception handler")
+                    .tag("exception", type.getSimpleName())
+                    .tag("status", String.valueOf(status.value()))
+                    .register(registry));
+        }
+        counter.increment();
+    }
+
+    private Timer[] timers(String name, String tag, Enum<?>[] values, Duration min, Duration max) {
+        Timer[] timers = new Timer[values.length];
+        for (Enum<?> value : values) {
+            timers[value.ordinal()] = timer(name, tag, value.name().toLowerCase(Locale.ROOT), min, max);
+        }
+        return timers;
+    }
+
+    private Timer timer(String name, String tag, String value, Duration min, Duration max) {
+        return Timer.builder(name)
+                .tag(tag, value)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(min)
+                .maximumExpectedValue(max)
+                .register(registry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.shopsmart.ecommerceapi.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Times every JDBC execution through the datasource proxy, records it in {@link SqlStatistics}, and
+ * logs a sample of slow ones. Only the normalized statement is logged, never bind values.
+ */
+@Slf4j
+public class SqlMonitoringListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = SqlMonitoringListener.class.getName() + ".start";
+
+    private final SqlStatistics statistics;
+    private final double slowLogSampleRate;
+
+    public SqlMonitoringListener(SqlStatistics statistics, double slowLogSampleRate) {
+        this.statistics = statistics;
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        // A JDBC batch of plain statements runs several queries in one call; they share its time.
+        long elapsedNanos = (System.nanoTime() - start) / queryInfoList.size();
+        for (QueryInfo query : queryInfoList) {
+            String statement = statistics.normalize(query.getQuery());
+            SqlRequestTrackingFilter.onStatement(statement);
+            if (statistics.record(statement, elapsedNanos) && shouldLogSlow()) {
+                logSlow(execInfo, statement, elapsedNanos);
+            }
+        }
+    }
+
+    private static void logSlow(ExecutionInfo execInfo, String statement, long elapsedNanos) {
+        String request = SqlRequestTrackingFilter.currentRequest();
+        log.warn("Slow SQL: {} ms{}{}: {}",
+                elapsedNanos / 1_000_000,
+                execInfo.isBatch() ? " (batch of " + execInfo.getBatchSize() + ")" : "",
+                request == null ? "" : " on " + request,
+                statement);
+    }
+
+    private boolean shouldLogSlow() {
+        return slowLogSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowLogSampleRate;
+    }
+}
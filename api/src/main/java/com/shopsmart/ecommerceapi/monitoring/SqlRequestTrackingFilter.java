@@ -0,0 +1,101 @@
+package com.shopsmart.ecommerceapi.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the statements each request runs on its own thread, and reports selects repeated
+ * {@code sql.monitoring.n-plus-one-threshold} times or more, the signature of a lazy association
+ * loaded once per row. Sequence fetches are not counted: Hibernate fetches a block of ids per
+ * {@code allocationSize} inserts, so a bulk insert repeats them without any lazy loading. Work handed
+ * to other threads, like the streamed export, is not attributed.
+ */
+@Slf4j
+public class SqlRequestTrackingFilter extends OncePerRequestFilter {
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics statistics;
+    private final int nPlusOneThreshold;
+
+    public SqlRequestTrackingFilter(SqlStatistics statistics, int nPlusOneThreshold) {
+        this.statistics = statistics;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    static void onStatement(String statement) {
+        RequestStatements statements = CURRENT.get();
+        if (statements != null) {
+            statements.counts.merge(statement, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Method and URI of the request running on this thread, or {@code null}.
+     */
+    static String currentRequest() {
+        RequestStatements statements = CURRENT.get();
+        return statements == null ? null : statements.request;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestStatements statements = new RequestStatements(request.getMethod() + " " + request.getRequestURI());
+        CURRENT.set(statements);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+            report(request, statements.counts);
+        }
+    }
+
+    private void report(HttpServletRequest request, Map<String, Integer> counts) {
+        String endpoint = null;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() < nPlusOneThreshold || !isSelect(entry.getKey()) || isSequenceFetch(entry.getKey())) {
+                continue;
+            }
+            if (endpoint == null) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+            }
+            if (statistics.recordNPlusOne(endpoint, entry.getKey(), entry.getValue())) {
+                log.warn("Possible N+1 on {}: {} executions of {}", endpoint, entry.getValue(), entry.getKey());
+            }
+        }
+    }
+
+    private static boolean isSelect(String statement) {
+        return statement.regionMatches(true, 0, "select", 0, 6)
+                || statement.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    // Normalized, as PostgreSQL's "select nextval('users_seq')" reaches the filter.
+    private static boolean isSequenceFetch(String statement) {
+        return statement.regionMatches(true, 0, "select nextval(", 0, 15);
+    }
+
+    private static final class RequestStatements {
+
+        private final String request;
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        private RequestStatements(String request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.shopsmart.ecommerceapi.monitoring;
+
+import com.shopsmart.ecommerceapi.config.SqlMonitoringProperties;
+import com.shopsmart.ecommerceapi.dto.NPlusOneFinding;
+import com.shopsmart.ecommerceapi.dto.SqlStatementStats;
+import com.shopsmart.ecommerceapi.dto.SqlStatsReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics per normalized statement, and the N+1 patterns seen per endpoint, since
+ * start or the last {@link #reset()}. Recording is lock-free and allocates nothing once a statement
+ * is known.
+ */
+@Component
+public class SqlStatistics {
+
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    // Hibernate issues a fixed set of statement strings, so their normal form is cached.
+    private static final int MAX_CACHED_NORMALIZATIONS = 4096;
+    private static final int MAX_N_PLUS_ONE_FINDINGS = 1000;
+
+    private final int maxStatements;
+    private final long slowThresholdNanos;
+    private final ConcurrentMap<String, String> normalized = new ConcurrentHashMap<>();
+    private volatile Snapshot current = new Snapshot();
+
+    @Autowired
+    public SqlStatistics(SqlMonitoringProperties properties) {
+        this.maxStatements = properties.getMaxStatements();
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    public String normalize(String sql) {
+        String statement = normalized.get(sql);
+        if (statement == null) {
+            statement = SqlNormalizer.normalize(sql);
+            if (normalized.size() < MAX_CACHED_NORMALIZATIONS) {
+                normalized.putIfAbsent(sql, statement);
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * @return whether the execution was slow
+     */
+    public boolean record(String statement, long elapsedNanos) {
+        Snapshot snapshot = current;
+        StatementStats stats = snapshot.statements.get(statement);
+        if (stats == null) {
+            String key = snapshot.statements.size() < maxStatements ? statement : OTHER_STATEMENTS;
+            stats = snapshot.statements.computeIfAbsent(key, k -> new StatementStats());
+        }
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        stats.record(elapsedNanos, slow);
+        return slow;
+    }
+
+    /**
+     * @return whether this is the first time the pattern is seen for the endpoint
+     */
+    public boolean recordNPlusOne(String endpoint, String statement, int executions) {
+        Snapshot snapshot = current;
+        NPlusOneKey key = new NPlusOneKey(endpoint, statement);
+        NPlusOneStats stats = snapshot.nPlusOne.get(key);
+        boolean first = false;
+        if (stats == null) {
+            if (snapshot.nPlusOne.size() >= MAX_N_PLUS_ONE_FINDINGS) {
+                return false;
+            }
+            NPlusOneStats created = new NPlusOneStats();
+            stats = snapshot.nPlusOne.putIfAbsent(key, created);
+            if (stats == null) {
+                stats = created;
+                first = true;
+            }
+        }
+        stats.requests.increment();
+        stats.maxExecutions.accumulateAndGet(executions, Math::max);
+        return first;
+    }
+
+    public SqlStatsReport report() {
+        Snapshot snapshot = current;
+        List<SqlStatementStats> statements = snapshot.statements.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingDouble(SqlStatementStats::getTotalMillis).reversed())
+                .toList();
+        List<NPlusOneFinding> nPlusOne = snapshot.nPlusOne.entrySet().stream()
+                .map(entry -> NPlusOneFinding.builder()
+                        .endpoint(entry.getKey().endpoint())
+                        .sql(entry.getKey().statement())
+                        .requests(entry.getValue().requests.sum())
+                        .maxExecutionsPerRequest(entry.getValue().maxExecutions.get())
+                        .build())
+                .sorted(Comparator.comparingLong(NPlusOneFinding::getRequests).reversed())
+                .toList();
+        return SqlStatsReport.builder()
+                .since(snapshot.since)
+                .statements(statements)
+                .nPlusOne(nPlusOne)
+                .build();
+    }
+
+    public void reset() {
+        current = new Snapshot();
+    }
+
+    private static final class Snapshot {
+
+        private final Instant since = Instant.now();
+        private final ConcurrentMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+        private final ConcurrentMap<NPlusOneKey, NPlusOneStats> nPlusOne = new ConcurrentHashMap<>();
+    }
+
+    private static final class StatementStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        void record(long elapsedNanos, boolean slow) {
+            count.increment();
+            if (slow) {
+                slowCount.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            histogram.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        }
+
+        SqlStatementStats toDto(String statement) {
+            long executions = count.sum();
+            double totalMillis = totalNanos.sum() / 1e6;
+            double maxMillis = maxNanos.get() / 1e6;
+            return SqlStatementStats.builder()
+                    .sql(statement)
+                    .count(executions)
+                    .slowCount(slowCount.sum())
+                    .totalMillis(totalMillis)
+                    .meanMillis(executions == 0 ? 0 : totalMillis / executions)
+                    // Bucket upper bounds can exceed the largest value actually seen.
+                    .p50Millis(Math.min(histogram.valueAt(0.50) / 1e3, maxMillis))
+                    .p95Millis(Math.min(histogram.valueAt(0.95) / 1e3, maxMillis))
+                    .p99Millis(Math.min(histogram.valueAt(0.99) / 1e3, maxMillis))
+                    .maxMillis(maxMillis)
+                    .build();
+        }
+    }
+
+    private record NPlusOneKey(String endpoint, String statement) {
+    }
+
+    private static final class NPlusOneStats {
+
+        private final LongAdder requests = new LongAdder();
+        private final AtomicInteger maxExecutions = new AtomicInteger();
+    }
+}
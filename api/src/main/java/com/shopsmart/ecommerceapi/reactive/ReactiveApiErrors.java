@@ -0,0 +1,50 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import com.shopsmart.ecommerceapi.exception.ApiExceptionHandler;
+import com.shopsmart.ecommerceapi.exception.ErrorResponses;
+import com.shopsmart.ecommerceapi.exception.InvalidRequest;
+import com.shopsmart.ecommerceapi.exception.ResourceAlreadyExists;
+import com.shopsmart.ecommerceapi.exception.ResourceDoesNotExist;
+import com.shopsmart.ecommerceapi.exception.ServiceUnavailable;
+import com.shopsmart.ecommerceapi.exception.TooManyRequests;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import javax.naming.AuthenticationException;
+
+/**
+ * Renders errors through the servlet stack's {@link ApiExceptionHandler}, so both stacks answer
+ * with the same status, headers and body.
+ */
+class ReactiveApiErrors {
+
+    private final ApiExceptionHandler handler;
+
+    ReactiveApiErrors(ErrorResponses errorResponses, ApiMetrics metrics) {
+        this.handler = new ApiExceptionHandler(errorResponses, metrics);
+    }
+
+    Mono<ServerResponse> toResponse(Throwable e) {
+        ResponseEntity<byte[]> entity;
+        if (e instanceof InvalidRequest invalidRequest) {
+            entity = handler.handleInvalidRequestException(invalidRequest);
+        } else if (e instanceof ResourceAlreadyExists resourceAlreadyExists) {
+            entity = handler.handleResourceAlreadyExistsException(resourceAlreadyExists);
+        } else if (e instanceof ResourceDoesNotExist resourceDoesNotExist) {
+            entity = handler.handleResourceDoesNotExistException(resourceDoesNotExist);
+        } else if (e instanceof AuthenticationException authenticationException) {
+            entity = handler.handleAuthenticationException(authenticationException);
+        } else if (e instanceof ServiceUnavailable serviceUnavailable) {
+            entity = handler.handleServiceUnavailableException(serviceUnavailable);
+        } else if (e instanceof TooManyRequests tooManyRequests) {
+            entity = handler.handleTooManyRequestsException(tooManyRequests);
+        } else {
+            return Mono.error(e);
+        }
+        return ServerResponse.status(entity.getStatusCode())
+                .headers(headers -> headers.addAll(entity.getHeaders()))
+                .bodyValue(entity.getBody());
+    }
+}
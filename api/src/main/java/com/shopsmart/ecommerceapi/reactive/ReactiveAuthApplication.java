@@ -0,0 +1,49 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import com.shopsmart.ecommerceapi.config.JacksonConfig;
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.config.PasswordHashingProperties;
+import com.shopsmart.ecommerceapi.config.RateLimitConfig;
+import com.shopsmart.ecommerceapi.config.RateLimitProperties;
+import com.shopsmart.ecommerceapi.exception.ErrorResponses;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import com.shopsmart.ecommerceapi.security.ratelimit.AuthRateLimits;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import com.shopsmart.ecommerceapi.validation.AuthRequestValidator;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Non-blocking alternative to the register and login endpoints of the servlet application, for
+ * the edge tier: WebFlux on Netty with R2DBC, sharing the token and password code and the
+ * database schema (migrated by the servlet application) with it.
+ * <p>
+ * It is its own Spring Boot application with its own configuration file,
+ * {@code reactive-auth.properties}. The condition keeps it and the rest of this package out of
+ * the servlet application, whose component scan covers this package.
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        FlywayAutoConfiguration.class
+})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties({JwtProperties.class, PasswordHashingProperties.class, RateLimitProperties.class})
+@Import({JacksonConfig.class, JWTUtils.class, PasswordHasher.class, RateLimitConfig.class, AuthRateLimits.class, ErrorResponses.class, AuthRequestValidator.class, ApiMetrics.class})
+public class ReactiveAuthApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveAuthApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("spring.config.name=reactive-auth")
+                .run(args);
+    }
+}
@@ -0,0 +1,177 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.dto.RegisterRequest;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.exception.ErrorResponses;
+import com.shopsmart.ecommerceapi.exception.InvalidRequest;
+import com.shopsmart.ecommerceapi.exception.ResourceAlreadyExists;
+import com.shopsmart.ecommerceapi.exception.ResourceDoesNotExist;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import com.shopsmart.ecommerceapi.repository.UniqueConstraints;
+import com.shopsmart.ecommerceapi.security.IssuedAccessToken;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import com.shopsmart.ecommerceapi.security.RefreshTokens;
+import com.shopsmart.ecommerceapi.security.ratelimit.AuthRateLimits;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import com.shopsmart.ecommerceapi.validation.AuthRequestValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import javax.naming.AuthenticationException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Register and login as in {@link com.shopsmart.ecommerceapi.service.UserService}, without
+ * blocking the event loop: queries go through R2DBC and BCrypt runs on the {@link PasswordHasher}
+ * pool, awaited as futures.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthHandler {
+
+    private static final String CUSTOMER_ROLE = "customer";
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveRefreshTokenRepository refreshTokenRepository;
+    private final PasswordHasher passwordHasher;
+    private final JWTUtils jwtUtils;
+    private final AuthRequestValidator validator;
+    private final TransactionalOperator transactionalOperator;
+    private final AuthRateLimits authRateLimits;
+    private final Duration refreshTokenValidity;
+    private final ReactiveApiErrors errors;
+    private final Mono<RoleRecord> customerRole;
+
+    @Autowired
+    public ReactiveAuthHandler(
+            ReactiveUserRepository userRepository,
+            ReactiveRoleRepository roleRepository,
+            ReactiveRefreshTokenRepository refreshTokenRepository,
+            PasswordHasher passwordHasher,
+            JWTUtils jwtUtils,
+            AuthRequestValidator validator,
+            TransactionalOperator transactionalOperator,
+            AuthRateLimits authRateLimits,
+            JwtProperties jwtProperties,
+            ErrorResponses errorResponses,
+            ApiMetrics metrics
+    ) {
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.passwordHasher = passwordHasher;
+        this.jwtUtils = jwtUtils;
+        this.validator = validator;
+        this.transactionalOperator = transactionalOperator;
+        this.authRateLimits = authRateLimits;
+        this.refreshTokenValidity = jwtProperties.getRefreshTokenValidity();
+        this.errors = new ReactiveApiErrors(errorResponses, metrics);
+        this.customerRole = roleRepository.findByName(CUSTOMER_ROLE)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Required role is missing: " + CUSTOMER_ROLE)))
+                .cache(role -> Duration.ofMinutes(10), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    public Mono<ServerResponse> register(ServerRequest request) {
+        return request.bodyToMono(RegisterRequest.class)
+                .switchIfEmpty(Mono.error(() -> new InvalidRequest("Request body is required")))
+                .doOnNext(validator::validate)
+                .doOnNext(user -> authRateLimits.checkRegister(clientIp(request)))
+                .flatMap(user -> Mono.fromFuture(() -> passwordHasher.encodeAsync(user.getPassword()))
+                        .map(hash -> UserRecord.builder()
+                                .firstName(user.getFirstName())
+                                .lastName(user.getLastName())
+                                .email(user.getEmail())
+                                .phoneNumber(user.getPhoneNumber())
+                                .password(hash)
+                                .createdAt(LocalDateTime.now())
+                                .build()))
+                .zipWith(customerRole)
+                .flatMap(recordAndRole -> insert(recordAndRole.getT1(), recordAndRole.getT2()))
+                .flatMap(this::issueTokens)
+                .flatMap(tokens -> ServerResponse.status(HttpStatus.CREATED).bodyValue(tokens))
+                .onErrorResume(errors::toResponse);
+    }
+
+    public Mono<ServerResponse> login(ServerRequest request) {
+        return request.bodyToMono(LoginRequest.class)
+                .switchIfEmpty(Mono.error(() -> new InvalidRequest("Request body is required")))
+                .doOnNext(validator::validate)
+                .doOnNext(login -> authRateLimits.checkLogin(clientIp(request), login.getEmail()))
+                .flatMap(login -> userRepository.findCredentialsByEmail(login.getEmail())
+                        .collectList()
+                        .flatMap(rows -> Mono.justOrEmpty(UserCredentials.fromRows(rows)))
+                        .switchIfEmpty(Mono.error(() -> new ResourceDoesNotExist("Email is not linked to any account", "email")))
+                        .flatMap(credentials -> checkPassword(login.getPassword(), credentials)))
+                .flatMap(this::issueTokens)
+                .flatMap(tokens -> ServerResponse.ok().bodyValue(tokens))
+                .onErrorResume(errors::toResponse);
+    }
+
+    private Mono<UserCredentials> insert(UserRecord record, RoleRecord role) {
+        return userRepository.save(record)
+                .flatMap(saved -> userRepository.addRole(saved.getId(), role.getId())
+                        .thenReturn(new UserCredentials(saved.getId(), saved.getEmail(), saved.getPassword(), Set.of(role.getId()))))
+                .as(transactionalOperator::transactional)
+                .onErrorMap(
+                        e -> e instanceof DataIntegrityViolationException violation
+                                && UniqueConstraints.isViolated(violation, UniqueConstraints.USERS_EMAIL),
+                        e -> new ResourceAlreadyExists("Email is already in use")
+                );
+    }
+
+    // Same rows and response as RefreshTokenService.issue in the servlet application.
+    private Mono<AuthResponse> issueTokens(UserCredentials credentials) {
+        Instant now = Instant.now();
+        IssuedAccessToken accessToken = jwtUtils.generateAccessToken(credentials);
+        String refreshToken = RefreshTokens.generate();
+        RefreshTokenRecord record = RefreshTokenRecord.builder()
+                .tokenHash(RefreshTokens.hash(refreshToken))
+                .userId(credentials.id())
+                .familyId(UUID.randomUUID())
+                .accessTokenId(accessToken.tokenId())
+                .accessExpiresAt(Instant.ofEpochMilli(accessToken.expiresAtMillis()))
+                .issuedAt(now)
+                .expiresAt(now.plus(refreshTokenValidity))
+                .build();
+        return refreshTokenRepository.save(record)
+                .thenReturn(AuthResponse.builder()
+                        .token(accessToken.token())
+                        .refreshToken(refreshToken)
+                        .expiresIn(Duration.between(now, Instant.ofEpochMilli(accessToken.expiresAtMillis())).toSeconds())
+                        .build());
+    }
+
+    private Mono<UserCredentials> checkPassword(String rawPassword, UserCredentials credentials) {
+        return Mono.fromFuture(() -> passwordHasher.matchesAsync(rawPassword, credentials.password()))
+                .flatMap(matches -> {
+                    if (!matches) {
+                        return Mono.error(new AuthenticationException("Incorrect password"));
+                    }
+                    if (!passwordHasher.needsRehash(credentials.password())) {
+                        return Mono.just(credentials);
+                    }
+                    return Mono.fromFuture(() -> passwordHasher.encodeAsync(rawPassword))
+                            .flatMap(hash -> userRepository.updatePassword(credentials.id(), hash))
+                            .thenReturn(credentials);
+                });
+    }
+
+    private static String clientIp(ServerRequest request) {
+        return request.remoteAddress()
+                .map(address -> address.getAddress() == null ? address.getHostString() : address.getAddress().getHostAddress())
+                .orElse("unknown");
+    }
+}
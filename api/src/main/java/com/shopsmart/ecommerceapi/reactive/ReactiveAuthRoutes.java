@@ -0,0 +1,30 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthRoutes {
+
+    @Bean
+    public RouterFunction<ServerResponse> authRoutes(ReactiveAuthHandler handler) {
+        return route(POST("/api/v1/users/register").and(contentType(MediaType.APPLICATION_JSON)), handler::register)
+                .andRoute(POST("/api/v1/users/login").and(contentType(MediaType.APPLICATION_JSON)), handler::login);
+    }
+
+    // Tomcat is on the classpath for the servlet application and would otherwise be picked first.
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,6 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+public interface ReactiveRefreshTokenRepository extends ReactiveCrudRepository<RefreshTokenRecord, Long> {
+}
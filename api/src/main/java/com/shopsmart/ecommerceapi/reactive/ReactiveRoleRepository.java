@@ -0,0 +1,9 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRoleRepository extends ReactiveCrudRepository<RoleRecord, Integer> {
+
+    Mono<RoleRecord> findByName(String name);
+}
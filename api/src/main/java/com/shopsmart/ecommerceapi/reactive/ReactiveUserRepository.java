@@ -0,0 +1,32 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import com.shopsmart.ecommerceapi.dto.UserCredentialsRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link com.shopsmart.ecommerceapi.repository.UserRepository}, limited
+ * to what register and login need.
+ */
+public interface ReactiveUserRepository extends ReactiveCrudRepository<UserRecord, Long> {
+
+    @Query("""
+            select u.id, u.email, u.password, ur.roles_id as role_id
+            from users u
+            left join users_roles ur on ur.users_id = u.id
+            where lower(u.email) = lower(:email)
+            """)
+    Flux<UserCredentialsRow> findCredentialsByEmail(@Param("email") String email);
+
+    @Modifying
+    @Query("insert into users_roles (users_id, roles_id) values (:userId, :roleId)")
+    Mono<Integer> addRole(@Param("userId") Long userId, @Param("roleId") Integer roleId);
+
+    @Modifying
+    @Query("update users set password = :password where id = :id")
+    Mono<Integer> updatePassword(@Param("id") Long id, @Param("password") String password);
+}
@@ -0,0 +1,33 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * R2DBC mapping of the {@code refresh_tokens} table, for issuing tokens only; rotation is served
+ * by the servlet application.
+ */
+@Table("refresh_tokens")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRecord {
+
+    @Id
+    private Long id;
+    private String tokenHash;
+    private Long userId;
+    private UUID familyId;
+    private String accessTokenId;
+    private Instant accessExpiresAt;
+    private Instant issuedAt;
+    private Instant expiresAt;
+}
@@ -0,0 +1,18 @@
+package com.shopsmart.ecommerceapi.reactive;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("roles")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleRecord {
+
+    @Id
+    private Integer id;
+    private String name;
+}
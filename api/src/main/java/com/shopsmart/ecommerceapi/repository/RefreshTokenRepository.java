@@ -0,0 +1,45 @@
+package com.shopsmart.ecommerceapi.repository;
+
+import com.shopsmart.ecommerceapi.dto.RevokedTokenRow;
+import com.shopsmart.ecommerceapi.model.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends CrudRepository<RefreshToken, Long> {
+
+    /**
+     * Locks the row, so that concurrent refreshes with the same token are serialized and all but
+     * the first one see it as used.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from RefreshToken t where t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+    @Query("""
+            select new com.shopsmart.ecommerceapi.dto.RevokedTokenRow(t.accessTokenId, t.accessExpiresAt)
+            from RefreshToken t
+            where t.familyId = :familyId and t.accessExpiresAt > :now
+            """)
+    List<RevokedTokenRow> findLiveAccessTokens(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
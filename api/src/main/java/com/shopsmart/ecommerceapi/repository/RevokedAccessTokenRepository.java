@@ -0,0 +1,37 @@
+package com.shopsmart.ecommerceapi.repository;
+
+import com.shopsmart.ecommerceapi.dto.RevokedTokenRow;
+import com.shopsmart.ecommerceapi.model.RevokedAccessToken;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends CrudRepository<RevokedAccessToken, String> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into revoked_access_tokens (token_id, expires_at, revoked_at)
+            values (:tokenId, :expiresAt, :revokedAt)
+            on conflict do nothing
+            """)
+    int insertIfAbsent(@Param("tokenId") String tokenId, @Param("expiresAt") Instant expiresAt, @Param("revokedAt") Instant revokedAt);
+
+    @Query("""
+            select new com.shopsmart.ecommerceapi.dto.RevokedTokenRow(t.tokenId, t.expiresAt)
+            from RevokedAccessToken t
+            where t.revokedAt >= :since and t.expiresAt > :now
+            """)
+    List<RevokedTokenRow> findRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedAccessToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,29 @@
+package com.shopsmart.ecommerceapi.repository;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Names of the unique indexes created by the migrations, for telling which one an insert hit.
+ */
+public final class UniqueConstraints {
+
+    public static final String USERS_EMAIL = "ux_users_email_lower";
+
+    private UniqueConstraints() {
+    }
+
+    public static boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+        String quotedName = "\"" + constraintName + "\"";
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return constraintName.equalsIgnoreCase(violation.getConstraintName());
+            }
+            // R2DBC drivers only report the constraint in the server message.
+            if (cause.getMessage() != null && cause.getMessage().contains(quotedName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
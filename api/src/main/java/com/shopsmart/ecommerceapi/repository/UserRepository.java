@@ -0,0 +1,80 @@
+package com.shopsmart.ecommerceapi.repository;
+
+import com.shopsmart.ecommerceapi.dto.UserCredentialsRow;
+import com.shopsmart.ecommerceapi.dto.UserExportRow;
+import com.shopsmart.ecommerceapi.dto.UserRoleRow;
+import com.shopsmart.ecommerceapi.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface UserRepository extends CrudRepository<User, Long>, UserSearchRepository {
+
+    // Email lookups compare lower(email) so that they are served by ux_users_email_lower.
+
+    @EntityGraph(attributePaths = "roles")
+    @Query("select u from User u where lower(u.email) = lower(:email)")
+    Optional<User> findByEmail(@Param("email") String email);
+
+    @Query("""
+            select new com.shopsmart.ecommerceapi.dto.UserCredentialsRow(u.id, u.email, u.password, r.id)
+            from User u left join u.roles r
+            where lower(u.email) = lower(:email)
+            """)
+    List<UserCredentialsRow> findCredentialsByEmail(@Param("email") String email);
+
+    @Query("""
+            select new com.shopsmart.ecommerceapi.dto.UserCredentialsRow(u.id, u.email, u.password, r.id)
+            from User u left join u.roles r
+            where u.id = :id
+            """)
+    List<UserCredentialsRow> findCredentialsById(@Param("id") Long id);
+
+    /**
+     * Lower-cased emails among {@code lowerCaseEmails} that are already taken.
+     */
+    @Query("select lower(u.email) from User u where lower(u.email) in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> lowerCaseEmails);
+
+    /**
+     * Forward-only cursor over every user and its roles; must be consumed inside a read-only
+     * transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.shopsmart.ecommerceapi.dto.UserExportRow(
+                u.id, u.firstName, u.lastName, u.email, u.phoneNumber, u.createdAt, r.name
+            )
+            from User u left join u.roles r
+            order by u.id
+            """)
+    Stream<UserExportRow> streamForExport();
+
+    @Query("""
+            select new com.shopsmart.ecommerceapi.dto.UserRoleRow(u.id, r.name)
+            from User u join u.roles r
+            where u.id in :ids
+            """)
+    List<UserRoleRow> findRoleNames(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+}
@@ -0,0 +1,16 @@
+package com.shopsmart.ecommerceapi.repository;
+
+import com.shopsmart.ecommerceapi.dto.UserCursor;
+import com.shopsmart.ecommerceapi.dto.UserFilter;
+import com.shopsmart.ecommerceapi.dto.UserListRow;
+
+import java.util.List;
+
+public interface UserSearchRepository {
+
+    /**
+     * Users matching {@code filter}, newest first, strictly after {@code after} (or from the start
+     * when it is {@code null}), at most {@code limit} rows.
+     */
+    List<UserListRow> findPage(UserFilter filter, UserCursor after, int limit);
+}
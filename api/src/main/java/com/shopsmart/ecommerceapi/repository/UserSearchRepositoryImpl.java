@@ -0,0 +1,86 @@
+package com.shopsmart.ecommerceapi.repository;
+
+import com.shopsmart.ecommerceapi.dto.UserCursor;
+import com.shopsmart.ecommerceapi.dto.UserFilter;
+import com.shopsmart.ecommerceapi.dto.UserListRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.AvailableHints;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keyset (seek) pagination on {@code (created_at, id)}: each page continues from the last row of
+ * the previous one instead of skipping an OFFSET, so it is served by a backward scan of the
+ * {@code idx_users_created_at_id} index no matter how deep the page is.
+ */
+class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserListRow> findPage(UserFilter filter, UserCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("""
+                select new com.shopsmart.ecommerceapi.dto.UserListRow(
+                    u.id, u.firstName, u.lastName, u.email, u.phoneNumber, u.createdAt
+                )
+                from User u
+                """);
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.role() != null) {
+            conditions.add("exists (select 1 from User ur join ur.roles r where ur.id = u.id and r.name = :role)");
+            parameters.put("role", filter.role());
+        }
+        if (filter.createdFrom() != null) {
+            conditions.add("u.createdAt >= :createdFrom");
+            parameters.put("createdFrom", Timestamp.from(filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            conditions.add("u.createdAt < :createdTo");
+            parameters.put("createdTo", Timestamp.from(filter.createdTo()));
+        }
+        if (filter.emailPrefix() != null && !filter.emailPrefix().isEmpty()) {
+            conditions.add("lower(u.email) like :emailPrefix escape '" + LIKE_ESCAPE + "'");
+            parameters.put("emailPrefix", escapeLike(filter.emailPrefix().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (after != null) {
+            // The redundant leading "<=" gives the planner an index bound; the OR alone would not.
+            conditions.add("u.createdAt <= :afterCreatedAt and (u.createdAt < :afterCreatedAt or u.id < :afterId)");
+            parameters.put("afterCreatedAt", Timestamp.from(after.createdAt()));
+            parameters.put("afterId", after.id());
+        }
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        jpql.append(" order by u.createdAt desc, u.id desc");
+
+        TypedQuery<UserListRow> query = entityManager.createQuery(jpql.toString(), UserListRow.class)
+                .setMaxResults(limit)
+                .setHint(AvailableHints.HINT_READ_ONLY, true);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
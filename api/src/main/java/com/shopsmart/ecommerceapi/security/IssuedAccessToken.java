@@ -0,0 +1,4 @@
+package com.shopsmart.ecommerceapi.security;
+
+public record IssuedAccessToken(String token, String tokenId, long expiresAtMillis) {
+}
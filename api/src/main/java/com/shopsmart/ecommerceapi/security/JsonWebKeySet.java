@@ -0,0 +1,52 @@
+package com.shopsmart.ecommerceapi.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import com.shopsmart.ecommerceapi.verifier.EcJwks;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The public signing keys as a JWKS document, serialized once: keys only change with the
+ * configuration, so every request is served the same bytes and the same strong ETag.
+ */
+@Component
+public class JsonWebKeySet {
+
+    private final byte[] json;
+    private final String etag;
+
+    @Autowired
+    public JsonWebKeySet(JWTUtils jwtUtils, ObjectMapper objectMapper) throws JsonProcessingException {
+        List<Map<String, String>> keys = jwtUtils.publicKeys().entrySet().stream()
+                .map(entry -> EcJwks.toJwk(entry.getKey(), (ECPublicKey) entry.getValue()))
+                .toList();
+        this.json = objectMapper.writeValueAsString(Map.of("keys", keys)).getBytes(StandardCharsets.UTF_8);
+        this.etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(json)) + "\"";
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
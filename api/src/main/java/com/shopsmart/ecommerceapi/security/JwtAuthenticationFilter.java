@@ -0,0 +1,90 @@
+package com.shopsmart.ecommerceapi.security;
+
+import com.shopsmart.ecommerceapi.exception.ErrorResponses;
+import com.shopsmart.ecommerceapi.security.revocation.TokenDenylist;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Authenticates requests carrying a {@code Bearer} token from the token alone, without a database
+ * lookup, and exposes the result as the {@link JwtPrincipal#REQUEST_ATTRIBUTE} request attribute.
+ * Revoked tokens are rejected through the in-memory {@link TokenDenylist}. Requests without a
+ * token pass through anonymously, and so do requests to the endpoints that obtain or renew tokens,
+ * whatever token they carry: a client holding an expired access token must still be able to log
+ * in or refresh.
+ */
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final Set<String> TOKEN_ENDPOINTS = Set.of(
+            "/api/v1/users/register",
+            "/api/v1/users/login",
+            "/api/v1/users/token/refresh",
+            "/api/v1/users/token/revoke"
+    );
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenylist tokenDenylist;
+    private final ErrorResponses errorResponses;
+
+    @Autowired
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache, TokenDenylist tokenDenylist, ErrorResponses errorResponses) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenDenylist = tokenDenylist;
+        this.errorResponses = errorResponses;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return TOKEN_ENDPOINTS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        JwtPrincipal principal;
+        try {
+            principal = verifiedTokenCache.verify(header.substring(BEARER_PREFIX.length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            rejectInvalidToken(response);
+            return;
+        }
+        // Checked on every request, also for cached principals: revocation can come after caching.
+        if (tokenDenylist.isRevoked(principal.tokenId(), principal.expiresAtMillis())) {
+            rejectInvalidToken(response);
+            return;
+        }
+
+        request.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal);
+        filterChain.doFilter(request, response);
+    }
+
+    private void rejectInvalidToken(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(errorResponses.body(HttpStatus.UNAUTHORIZED, "Invalid or expired token", null));
+    }
+}
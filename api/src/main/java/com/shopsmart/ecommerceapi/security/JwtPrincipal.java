@@ -0,0 +1,18 @@
+package com.shopsmart.ecommerceapi.security;
+
+import java.util.Set;
+
+/**
+ * @param userId  the {@code uid} claim; {@code null} for tokens issued before it was added
+ * @param roleIds the {@code rol} claim; tokens that carried role names instead have none
+ * @param tokenId the {@code jti} claim; {@code null} for tokens issued before it was added,
+ *                which cannot be revoked individually
+ */
+public record JwtPrincipal(Long userId, String email, Set<Integer> roleIds, long expiresAtMillis, String tokenId) {
+
+    public static final String REQUEST_ATTRIBUTE = JwtPrincipal.class.getName();
+
+    public boolean hasRole(int roleId) {
+        return roleIds.contains(roleId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.shopsmart.ecommerceapi.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts a handler (or every handler of a controller) to callers whose token carries the role.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresRole {
+
+    String value();
+}
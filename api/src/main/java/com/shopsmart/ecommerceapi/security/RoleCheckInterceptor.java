@@ -0,0 +1,52 @@
+package com.shopsmart.ecommerceapi.security;
+
+import com.shopsmart.ecommerceapi.exception.AccessDenied;
+import com.shopsmart.ecommerceapi.exception.AuthenticationRequired;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.service.RoleRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class RoleCheckInterceptor implements HandlerInterceptor {
+
+    private final RoleRegistry roleRegistry;
+
+    @Autowired
+    public RoleCheckInterceptor(RoleRegistry roleRegistry) {
+        this.roleRegistry = roleRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RequiresRole requiresRole = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RequiresRole.class);
+        if (requiresRole == null) {
+            requiresRole = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RequiresRole.class);
+        }
+        if (requiresRole == null) {
+            return true;
+        }
+
+        JwtPrincipal principal = (JwtPrincipal) request.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE);
+        if (principal == null) {
+            throw new AuthenticationRequired("Authentication is required");
+        }
+        // Tokens carry role ids; names are resolved against the in-memory roles table.
+        boolean allowed = roleRegistry.findByName(requiresRole.value())
+                .map(Role::getId)
+                .map(principal::hasRole)
+                .orElse(false);
+        if (!allowed) {
+            throw new AccessDenied("Access denied");
+        }
+        return true;
+    }
+}
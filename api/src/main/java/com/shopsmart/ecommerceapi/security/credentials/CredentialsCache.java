@@ -0,0 +1,149 @@
+package com.shopsmart.ecommerceapi.security.credentials;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.shopsmart.ecommerceapi.config.CredentialsCacheProperties;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.security.credentials.CredentialsInvalidationBus.Invalidation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Login credentials by lower-cased email, so that repeated logins of the same accounts skip the
+ * database. Only found accounts are cached: a new account never has a stale entry to replace.
+ * Entries are dropped on every {@link Invalidation} from the {@link CredentialsInvalidationBus},
+ * and in any case {@code users.credentials-cache.ttl} after they were loaded. An invalidation drops
+ * the entry of its email and, through an index of the cached keys by user id, the entry of the
+ * account's previous email, if it changed.
+ */
+@Component
+public class CredentialsCache {
+
+    private static final String NAME = "users.credentials";
+
+    private final CredentialsInvalidationBus bus;
+    private final Cache<String, UserCredentials> cache;
+    private final ConcurrentMap<Long, String> keysByUserId = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public CredentialsCache(
+            CredentialsCacheProperties properties,
+            CredentialsInvalidationBus bus,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(properties, bus, meterRegistry.getIfAvailable(), Ticker.systemTicker());
+    }
+
+    public CredentialsCache(
+            CredentialsCacheProperties properties,
+            CredentialsInvalidationBus bus,
+            MeterRegistry meterRegistry,
+            Ticker ticker
+    ) {
+        this.bus = bus;
+        if (!properties.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .ticker(ticker)
+                .evictionListener((String key, UserCredentials credentials, RemovalCause cause) ->
+                        keysByUserId.remove(credentials.id(), key))
+                .recordStats()
+                .build();
+        bus.subscribe(this::invalidateLocally);
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+            Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                    .tag("cache", NAME)
+                    .description("Share of lookups served from the cache since startup")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @param loader reads the credentials of {@code email} from the database
+     */
+    public Optional<UserCredentials> get(String email, Function<String, Optional<UserCredentials>> loader) {
+        if (cache == null || email == null) {
+            return loader.apply(email);
+        }
+        String key = key(email);
+        UserCredentials cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Loaded outside the cache's compute, so that a slow query does not lock other keys.
+        long seen = invalidations.get();
+        Optional<UserCredentials> loaded = loader.apply(email);
+        loaded.ifPresent(credentials -> store(key, credentials, seen));
+        return loaded;
+    }
+
+    /**
+     * Caches what was loaded unless an invalidation ran since the load started: the load may have
+     * read the row before that invalidation's change. The check follows the put, and
+     * {@link #invalidateLocally} counts before it invalidates, so one of the two drops the entry.
+     */
+    private void store(String key, UserCredentials credentials, long seen) {
+        keysByUserId.put(credentials.id(), key);
+        cache.put(key, credentials);
+        if (invalidations.get() != seen) {
+            cache.asMap().remove(key, credentials);
+        }
+    }
+
+    /**
+     * Invalidates the account on every instance, now and again once the current transaction, if
+     * any, has completed: a login reading the row before the commit could otherwise cache the
+     * old credentials after the first invalidation.
+     */
+    public void evict(Long userId, String email) {
+        Invalidation invalidation = new Invalidation(userId, email);
+        bus.publish(invalidation);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bus.publish(invalidation);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    private void invalidateLocally(Invalidation invalidation) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key(invalidation.email()));
+        String previousKey = keysByUserId.remove(invalidation.userId());
+        if (previousKey != null) {
+            cache.invalidate(previousKey);
+        }
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
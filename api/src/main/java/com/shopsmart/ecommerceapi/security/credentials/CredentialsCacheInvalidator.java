@@ -0,0 +1,25 @@
+package com.shopsmart.ecommerceapi.security.credentials;
+
+import com.shopsmart.ecommerceapi.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Entity listener of {@link User}, created by Hibernate through the Spring bean container.
+ * Bulk JPQL updates skip entity callbacks, so their callers evict from the
+ * {@link CredentialsCache} themselves.
+ */
+public class CredentialsCacheInvalidator {
+
+    private final CredentialsCache credentialsCache;
+
+    public CredentialsCacheInvalidator(CredentialsCache credentialsCache) {
+        this.credentialsCache = credentialsCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        credentialsCache.evict(user.getId(), user.getEmail());
+    }
+}
@@ -0,0 +1,26 @@
+package com.shopsmart.ecommerceapi.security.credentials;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries credentials invalidations to every instance's {@link CredentialsCache}.
+ * {@link LocalCredentialsInvalidationBus} only reaches the current instance; a shared transport
+ * (e.g. Postgres {@code NOTIFY} or Redis pub/sub) can be plugged in as a {@code @Primary} bean of
+ * this type.
+ */
+public interface CredentialsInvalidationBus {
+
+    /**
+     * An account whose credentials changed. Caches drop it by id as well as by email, since the
+     * email may be the thing that changed.
+     */
+    record Invalidation(Long userId, String email) {
+    }
+
+    /**
+     * Delivers {@code invalidation} to the subscribers of every instance, this one included.
+     */
+    void publish(Invalidation invalidation);
+
+    void subscribe(Consumer<Invalidation> subscriber);
+}
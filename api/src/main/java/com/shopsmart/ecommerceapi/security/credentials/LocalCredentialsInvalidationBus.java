@@ -0,0 +1,26 @@
+package com.shopsmart.ecommerceapi.security.credentials;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations synchronously to the subscribers of this JVM. Several caches subscribed
+ * to one instance behave like instances sharing a bus, which is how tests stand in for a cluster.
+ */
+public class LocalCredentialsInvalidationBus implements CredentialsInvalidationBus {
+
+    private final List<Consumer<Invalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        for (Consumer<Invalidation> subscriber : subscribers) {
+            subscriber.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,49 @@
+package com.shopsmart.ecommerceapi.security.ratelimit;
+
+import com.shopsmart.ecommerceapi.config.RateLimitProperties;
+import com.shopsmart.ecommerceapi.exception.TooManyRequests;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Throttles login and registration per client IP and per email before any database or BCrypt
+ * work happens. Rejections surface as {@link TooManyRequests} (429 with {@code Retry-After}).
+ */
+@Component
+public class AuthRateLimits {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+
+    @Autowired
+    public AuthRateLimits(RateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+    }
+
+    public void checkLogin(String clientIp, String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        check("login:ip:" + clientIp, properties.getLoginPerIp());
+        if (email != null) {
+            check("login:email:" + email.toLowerCase(Locale.ROOT), properties.getLoginPerEmail());
+        }
+    }
+
+    public void checkRegister(String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        check("register:ip:" + clientIp, properties.getRegisterPerIp());
+    }
+
+    private void check(String key, RateLimitProperties.Limit limit) {
+        long retryAfterMillis = rateLimiter.tryAcquire(key, limit.getRequests(), limit.getWindow());
+        if (retryAfterMillis > 0) {
+            throw new TooManyRequests("Too many attempts, try again later", (retryAfterMillis + 999) / 1000);
+        }
+    }
+}
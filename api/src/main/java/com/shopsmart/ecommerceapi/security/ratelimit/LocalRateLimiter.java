@@ -0,0 +1,110 @@
+package com.shopsmart.ecommerceapi.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process {@link RateLimiter} using the sliding-window-counter approximation: the count of the
+ * previous fixed window, weighted by how much of it still overlaps the sliding window, plus the
+ * count of the current one.
+ * <p>
+ * Each key's state (window index, previous count, current count) is packed in one
+ * {@link AtomicLong} and updated with a CAS loop, so there is no lock per key. Keys live in a
+ * Caffeine map bounded by {@code maxKeys} and expire two windows after their last use.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private static final long COUNT_MASK = 0xFFFF;
+    private static final long INDEX_MASK = 0xFFFF_FFFFL;
+    private static final int MAX_COUNT = (int) COUNT_MASK;
+
+    private final Cache<String, Window> windows;
+    private final Clock clock;
+
+    public LocalRateLimiter(long maxKeys, Clock clock) {
+        this.clock = clock;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new Expiry<String, Window>() {
+                    @Override
+                    public long expireAfterCreate(String key, Window window, long currentTime) {
+                        return window.idleNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Window window, long currentTime, long currentDuration) {
+                        return window.idleNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Window window, long currentTime, long currentDuration) {
+                        return window.idleNanos;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, int limit, Duration window) {
+        long windowMillis = window.toMillis();
+        Window state = windows.get(key, k -> new Window(window.multipliedBy(2).toNanos()));
+        long now = clock.millis();
+        long elapsed = now % windowMillis;
+        // Only the low 32 bits of the window number are kept; enough to tell consecutive windows apart.
+        long index = (now / windowMillis) & INDEX_MASK;
+
+        while (true) {
+            long packed = state.packed.get();
+            long packedIndex = packed >>> 32;
+            int previous;
+            int current;
+            if (packedIndex == index) {
+                previous = (int) ((packed >>> 16) & COUNT_MASK);
+                current = (int) (packed & COUNT_MASK);
+            } else if (packedIndex == ((index - 1) & INDEX_MASK)) {
+                previous = (int) (packed & COUNT_MASK);
+                current = 0;
+            } else {
+                previous = 0;
+                current = 0;
+            }
+
+            double weight = (double) (windowMillis - elapsed) / windowMillis;
+            if (previous * weight + current >= limit) {
+                return retryAfterMillis(limit, previous, current, windowMillis, elapsed);
+            }
+            long next = (index << 32) | ((long) previous << 16) | Math.min(current + 1, MAX_COUNT);
+            if (state.packed.compareAndSet(packed, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Time until the weighted estimate drops below {@code limit}: within this window if only the
+     * previous window's share has to decay, otherwise at the next window boundary.
+     */
+    private static long retryAfterMillis(int limit, int previous, int current, long windowMillis, long elapsed) {
+        if (current >= limit || previous == 0) {
+            return Math.max(windowMillis - elapsed, 1);
+        }
+        // previous * (windowMillis - t) / windowMillis + current < limit
+        double t = windowMillis - (double) (limit - current) * windowMillis / previous;
+        return Math.max((long) Math.ceil(t) - elapsed + 1, 1);
+    }
+
+    private static final class Window {
+
+        private final AtomicLong packed = new AtomicLong();
+        private final long idleNanos;
+
+        private Window(long idleNanos) {
+            this.idleNanos = idleNanos;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.shopsmart.ecommerceapi.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Sliding-window request counter. {@link LocalRateLimiter} counts per instance; a shared backend
+ * (e.g. Redis) can be plugged in as a {@code @Primary} bean of this type.
+ */
+public interface RateLimiter {
+
+    /**
+     * Counts one request for {@code key} if fewer than {@code limit} were counted in the last
+     * {@code window}.
+     *
+     * @return 0 if the request is allowed, otherwise the milliseconds until it would be
+     */
+    long tryAcquire(String key, int limit, Duration window);
+}
@@ -0,0 +1,120 @@
+package com.shopsmart.ecommerceapi.security.revocation;
+
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory set of revoked access token ids ({@code jti}), checked on every authenticated request
+ * without a database query.
+ * <p>
+ * Tokens are grouped by expiry into buckets of {@code jwt.revocation.bucket-width}, each a Bloom
+ * filter, kept in a ring that covers the longest access token validity. A check hashes the id and
+ * probes the one bucket its expiry falls in: O(1), lock-free and allocation-free. A bucket is
+ * reused for a later time slot once all its tokens have expired, so memory stays fixed and nothing
+ * has to be swept.
+ * <p>
+ * Sizing, at a false positive rate of 1e-6 (about 29 bits and 20 probes per id): 1M revoked tokens
+ * take 3.6 MB, 10M take 36 MB. Only revoked tokens count, not outstanding ones, so even revoking
+ * all of 10M outstanding tokens fits in 36 MB; an exact {@code Set<String>} of 10M ids would need
+ * over 1 GB. A false positive rejects a valid access token, and the client recovers with its
+ * refresh token, which is checked exactly.
+ */
+@Component
+public class TokenDenylist {
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final long bucketMillis;
+    private final long expectedPerBucket;
+    private final double falsePositiveRate;
+    private final Clock clock;
+
+    @Autowired
+    public TokenDenylist(JwtProperties properties) {
+        this(
+                properties.getAccessTokenValidity(),
+                properties.getRevocation().getBucketWidth(),
+                properties.getRevocation().getExpectedRevocations(),
+                properties.getRevocation().getFalsePositiveRate(),
+                Clock.systemUTC()
+        );
+    }
+
+    TokenDenylist(Duration maxTokenValidity, Duration bucketWidth, long expectedRevocations, double falsePositiveRate, Clock clock) {
+        this.bucketMillis = bucketWidth.toMillis();
+        int liveBuckets = (int) ((maxTokenValidity.toMillis() + bucketMillis - 1) / bucketMillis) + 1;
+        // One spare slot so the bucket being recycled is never one that is still being read.
+        this.buckets = new AtomicReferenceArray<>(liveBuckets + 1);
+        this.expectedPerBucket = (expectedRevocations + liveBuckets - 1) / liveBuckets;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+    }
+
+    /**
+     * Adds {@code tokenId} until {@code expiresAtMillis}. Already expired tokens and tokens that
+     * expire beyond the ring, which this application never issues, are ignored.
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        long slot = expiresAtMillis / bucketMillis;
+        if (!isTracked(slot)) {
+            return;
+        }
+        int index = (int) (slot % buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.slot == slot) {
+                bucket.filter.put(hash(tokenId));
+                return;
+            }
+            if (bucket != null && bucket.slot > slot) {
+                return;
+            }
+            buckets.compareAndSet(index, bucket, new Bucket(slot, new BloomFilter(expectedPerBucket, falsePositiveRate)));
+        }
+    }
+
+    public boolean isRevoked(String tokenId, long expiresAtMillis) {
+        if (tokenId == null) {
+            return false;
+        }
+        long slot = expiresAtMillis / bucketMillis;
+        Bucket bucket = buckets.get((int) (slot % buckets.length()));
+        return bucket != null && bucket.slot == slot && bucket.filter.mightContain(hash(tokenId));
+    }
+
+    /**
+     * Memory held by the filters currently allocated.
+     */
+    public long sizeInBytes() {
+        long size = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null) {
+                size += bucket.filter.sizeInBytes();
+            }
+        }
+        return size;
+    }
+
+    private boolean isTracked(long slot) {
+        long currentSlot = clock.millis() / bucketMillis;
+        return slot >= currentSlot && slot - currentSlot < buckets.length() - 1;
+    }
+
+    // FNV-1a over the characters, then remixed; token ids are random, so this only has to spread.
+    static long hash(String tokenId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < tokenId.length(); i++) {
+            hash ^= tokenId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return BloomFilter.mix(hash);
+    }
+
+    private record Bucket(long slot, BloomFilter filter) {
+    }
+}
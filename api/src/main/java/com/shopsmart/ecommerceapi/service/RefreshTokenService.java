@@ -0,0 +1,125 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.exception.AuthenticationRequired;
+import com.shopsmart.ecommerceapi.model.RefreshToken;
+import com.shopsmart.ecommerceapi.repository.RefreshTokenRepository;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.IssuedAccessToken;
+import com.shopsmart.ecommerceapi.security.RefreshTokens;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues an access token together with a single-use refresh token. Refreshing consumes the
+ * refresh token and issues a new pair in the same family; presenting a consumed token again means
+ * it was stolen or replayed, so the whole family is revoked, including its access tokens.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JWTUtils jwtUtils;
+    private final TokenRevocationService tokenRevocationService;
+    private final Duration refreshTokenValidity;
+
+    @Autowired
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            JWTUtils jwtUtils,
+            TokenRevocationService tokenRevocationService,
+            JwtProperties properties
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtUtils = jwtUtils;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenValidity = properties.getRefreshTokenValidity();
+    }
+
+    @Transactional
+    public AuthResponse issue(UserCredentials credentials) {
+        return issue(credentials, UUID.randomUUID(), Instant.now());
+    }
+
+    /**
+     * @throws AuthenticationRequired if the token is unknown, expired, revoked or already used
+     */
+    @Transactional(noRollbackFor = AuthenticationRequired.class)
+    public AuthResponse refresh(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(RefreshTokens.hash(refreshToken))
+                .orElseThrow(RefreshTokenService::invalidToken);
+        Instant now = Instant.now();
+        if (current.getUsedAt() != null && current.getRevokedAt() == null) {
+            log.warn("Refresh token reused, revoking token family {} of user {}", current.getFamilyId(), current.getUserId());
+            revokeFamily(current.getFamilyId(), now);
+            throw invalidToken();
+        }
+        if (current.getRevokedAt() != null || !current.getExpiresAt().isAfter(now)) {
+            throw invalidToken();
+        }
+        current.setUsedAt(now);
+        Optional<UserCredentials> credentials = UserCredentials.fromRows(userRepository.findCredentialsById(current.getUserId()));
+        if (credentials.isEmpty()) {
+            throw invalidToken();
+        }
+        return issue(credentials.get(), current.getFamilyId(), now);
+    }
+
+    /**
+     * Logs out the session the token belongs to. Unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHashForUpdate(RefreshTokens.hash(refreshToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId(), Instant.now()));
+    }
+
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 17 * * * *}")
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(Instant.now());
+        log.info("Purged {} expired refresh tokens", purged);
+    }
+
+    private AuthResponse issue(UserCredentials credentials, UUID familyId, Instant now) {
+        IssuedAccessToken accessToken = jwtUtils.generateAccessToken(credentials);
+        String refreshToken = RefreshTokens.generate();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(RefreshTokens.hash(refreshToken))
+                .userId(credentials.id())
+                .familyId(familyId)
+                .accessTokenId(accessToken.tokenId())
+                .accessExpiresAt(Instant.ofEpochMilli(accessToken.expiresAtMillis()))
+                .issuedAt(now)
+                .expiresAt(now.plus(refreshTokenValidity))
+                .build());
+        return AuthResponse.builder()
+                .token(accessToken.token())
+                .refreshToken(refreshToken)
+                .expiresIn(Duration.between(now, Instant.ofEpochMilli(accessToken.expiresAtMillis())).toSeconds())
+                .build();
+    }
+
+    private void revokeFamily(UUID familyId, Instant now) {
+        refreshTokenRepository.revokeFamily(familyId, now);
+        tokenRevocationService.revoke(refreshTokenRepository.findLiveAccessTokens(familyId, now));
+    }
+
+    private static AuthenticationRequired invalidToken() {
+        return new AuthenticationRequired("Invalid or expired refresh token");
+    }
+}
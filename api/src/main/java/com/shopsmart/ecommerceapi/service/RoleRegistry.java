@@ -0,0 +1,82 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.config.RoleRegistryProperties;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.repository.RoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable in-memory copy of the roles table. Reloaded on {@link RolesChangedEvent} and every
+ * {@code roles.registry.refresh-interval-ms}.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+    private final RoleRegistryProperties properties;
+
+    private volatile Map<String, Role> rolesByName = Map.of();
+
+    @Autowired
+    public RoleRegistry(RoleRepository roleRepository, RoleRegistryProperties properties) {
+        this.roleRepository = roleRepository;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void load() {
+        Map<String, Role> loaded = new HashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            loaded.put(role.getName(), role);
+        }
+        for (String required : properties.getRequired()) {
+            if (!loaded.containsKey(required)) {
+                throw new IllegalStateException("Required role '" + required + "' is missing from the roles table");
+            }
+        }
+        rolesByName = Map.copyOf(loaded);
+    }
+
+    @Scheduled(
+            initialDelayString = "${roles.registry.refresh-interval-ms:600000}",
+            fixedDelayString = "${roles.registry.refresh-interval-ms:600000}"
+    )
+    public void refresh() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            // Keep serving the last good snapshot; a broken roles table must not take signups down.
+            log.error("Could not refresh roles, keeping {} cached roles", rolesByName.size(), e);
+        }
+    }
+
+    @EventListener
+    public void onRolesChanged(RolesChangedEvent event) {
+        log.info("Reloading roles: {}", event.reason());
+        refresh();
+    }
+
+    public Optional<Role> findByName(String name) {
+        return Optional.ofNullable(rolesByName.get(name));
+    }
+
+    public Role getRequired(String name) {
+        Role role = rolesByName.get(name);
+        if (role == null) {
+            throw new IllegalStateException("Role '" + name + "' is not registered");
+        }
+        return role;
+    }
+}
@@ -0,0 +1,7 @@
+package com.shopsmart.ecommerceapi.service;
+
+/**
+ * Published after the roles table changes so every {@link RoleRegistry} reloads it.
+ */
+public record RolesChangedEvent(String reason) {
+}
@@ -0,0 +1,87 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.dto.RevokedTokenRow;
+import com.shopsmart.ecommerceapi.repository.RevokedAccessTokenRepository;
+import com.shopsmart.ecommerceapi.security.revocation.TokenDenylist;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the {@link TokenDenylist} in step with the {@code revoked_access_tokens} table: revocations
+ * are written to both, and every instance loads the live rows at startup and then polls for rows
+ * revoked by other instances.
+ */
+@Slf4j
+@Service
+@DependsOnDatabaseInitialization
+public class TokenRevocationService {
+
+    // Polls look back this far past the previous poll, to cover clock skew between instances and
+    // transactions that committed after it.
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TokenDenylist tokenDenylist;
+
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    @Autowired
+    public TokenRevocationService(RevokedAccessTokenRepository revokedAccessTokenRepository, TokenDenylist tokenDenylist) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.tokenDenylist = tokenDenylist;
+    }
+
+    @PostConstruct
+    public void load() {
+        Instant started = Instant.now();
+        List<RevokedTokenRow> rows = revokedAccessTokenRepository.findRevokedSince(Instant.EPOCH, started);
+        addToDenylist(rows);
+        lastSync = started;
+        log.info("Loaded {} revoked access tokens", rows.size());
+    }
+
+    @Transactional
+    public void revoke(Collection<RevokedTokenRow> tokens) {
+        Instant now = Instant.now();
+        for (RevokedTokenRow token : tokens) {
+            revokedAccessTokenRepository.insertIfAbsent(token.tokenId(), token.expiresAt(), now);
+        }
+        addToDenylist(tokens);
+    }
+
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.sync-interval-ms:5000}",
+            fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}"
+    )
+    public void sync() {
+        try {
+            Instant started = Instant.now();
+            addToDenylist(revokedAccessTokenRepository.findRevokedSince(lastSync.minus(SYNC_OVERLAP), started));
+            lastSync = started;
+        } catch (RuntimeException e) {
+            log.error("Could not sync revoked access tokens since {}", lastSync, e);
+        }
+    }
+
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 17 * * * *}")
+    public void purgeExpired() {
+        int purged = revokedAccessTokenRepository.deleteExpired(Instant.now());
+        log.info("Purged {} expired revoked access tokens", purged);
+    }
+
+    private void addToDenylist(Collection<RevokedTokenRow> tokens) {
+        for (RevokedTokenRow token : tokens) {
+            tokenDenylist.revoke(token.tokenId(), token.expiresAt().toEpochMilli());
+        }
+    }
+}
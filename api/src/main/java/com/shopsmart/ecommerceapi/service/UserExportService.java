@@ -0,0 +1,152 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.dto.DataFormat;
+import com.shopsmart.ecommerceapi.dto.UserExportRow;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.util.CsvUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes every user straight from a database cursor to the response. Only the user currently
+ * being assembled from its role rows is held in memory, so heap use does not grow with the table.
+ */
+@Service
+public class UserExportService {
+
+    static final String CSV_HEADER = "id,firstName,lastName,email,phoneNumber,createdAt,roles\n";
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public UserExportService(UserRepository userRepository, ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long export(DataFormat format, OutputStream output) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(output, 64 * 1024);
+        RecordWriter writer = format == DataFormat.CSV ? new CsvWriter(buffered) : new NdjsonWriter(buffered);
+        long exported = 0;
+        try (Stream<UserExportRow> rows = userRepository.streamForExport()) {
+            Iterator<UserExportRow> iterator = rows.iterator();
+            UserExportRow current = null;
+            List<String> roles = new ArrayList<>(4);
+            while (iterator.hasNext()) {
+                UserExportRow row = iterator.next();
+                if (current != null && !Objects.equals(current.id(), row.id())) {
+                    writer.write(current, roles);
+                    exported++;
+                    roles.clear();
+                }
+                current = row;
+                if (row.roleName() != null) {
+                    roles.add(row.roleName());
+                }
+            }
+            if (current != null) {
+                writer.write(current, roles);
+                exported++;
+            }
+        }
+        writer.finish();
+        buffered.flush();
+        return exported;
+    }
+
+    private interface RecordWriter {
+
+        void write(UserExportRow user, List<String> roles) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private final class NdjsonWriter implements RecordWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(OutputStream output) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(output);
+            this.generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(UserExportRow user, List<String> roles) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", user.id());
+            generator.writeStringField("firstName", user.firstName());
+            generator.writeStringField("lastName", user.lastName());
+            generator.writeStringField("email", user.email());
+            generator.writeStringField("phoneNumber", user.phoneNumber());
+            if (user.createdAt() == null) {
+                generator.writeNullField("createdAt");
+            } else {
+                generator.writeNumberField("createdAt", user.createdAt().getTime());
+            }
+            generator.writeArrayFieldStart("roles");
+            for (String role : roles) {
+                generator.writeString(role);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvWriter implements RecordWriter {
+
+        private final OutputStream output;
+        private final StringBuilder line = new StringBuilder(256);
+
+        private CsvWriter(OutputStream output) throws IOException {
+            this.output = output;
+            output.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(UserExportRow user, List<String> roles) throws IOException {
+            line.setLength(0);
+            line.append(user.id()).append(',');
+            CsvUtils.appendField(line, user.firstName());
+            line.append(',');
+            CsvUtils.appendField(line, user.lastName());
+            line.append(',');
+            CsvUtils.appendField(line, user.email());
+            line.append(',');
+            CsvUtils.appendField(line, user.phoneNumber());
+            line.append(',');
+            if (user.createdAt() != null) {
+                line.append(user.createdAt().toInstant());
+            }
+            line.append(',');
+            CsvUtils.appendField(line, String.join("|", roles));
+            line.append('\n');
+            output.write(line.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.config.UserImportProperties;
+import com.shopsmart.ecommerceapi.dto.DataFormat;
+import com.shopsmart.ecommerceapi.dto.ImportRowError;
+import com.shopsmart.ecommerceapi.dto.ImportSummary;
+import com.shopsmart.ecommerceapi.dto.UserImportRow;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.model.ValidationSequenceOrder;
+import com.shopsmart.ecommerceapi.repository.UniqueConstraints;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import com.shopsmart.ecommerceapi.util.CsvUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams users from NDJSON or CSV into the database. Rows are validated with the registration
+ * rules, de-duplicated against the database one chunk at a time, and inserted with JDBC batching
+ * (sequence ids, {@code hibernate.jdbc.batch_size}). Rejected rows are written to the report as
+ * they are found, followed by an {@link ImportSummary} line. The plaintext passwords of a chunk are
+ * hashed in parallel on an executor of the import's own, sized by {@code users.import.hash-threads}.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final List<String> FIELD_ORDER = Arrays.asList(UserImportRow.CSV_COLUMNS);
+
+    private final UserRepository userRepository;
+    private final RoleRegistry roleRegistry;
+    private final PasswordHasher passwordHasher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final UserImportProperties properties;
+    private final ThreadPoolExecutor hashExecutor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public UserImportService(
+            UserRepository userRepository,
+            RoleRegistry roleRegistry,
+            PasswordHasher passwordHasher,
+            Validator validator,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            UserImportProperties properties
+    ) {
+        this.userRepository = userRepository;
+        this.roleRegistry = roleRegistry;
+        this.passwordHasher = passwordHasher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        // A full queue makes the importing thread hash too, which throttles reading the input.
+        this.hashExecutor = new ThreadPoolExecutor(
+                properties.getHashThreads(),
+                properties.getHashThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getChunkSize()),
+                new CustomizableThreadFactory("user-import-hasher-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * Always ends the report with the summary, also when a failure stops the import part way: the
+     * response is committed by then, so the summary's {@code aborted} flag is the only way to tell
+     * the client. Rows counted as imported are stored; none after them are.
+     */
+    public ImportSummary importUsers(DataFormat format, InputStream input, OutputStream report) throws IOException {
+        long start = System.currentTimeMillis();
+        Counters counters = new Counters();
+        String error = null;
+        try {
+            importRows(format, input, report, counters);
+        } catch (RuntimeException e) {
+            log.error("User import aborted after {} imported and {} rejected rows", counters.imported, counters.rejected, e);
+            error = "Import aborted by an internal error";
+        }
+
+        ImportSummary summary = ImportSummary.builder()
+                .imported(counters.imported)
+                .rejected(counters.rejected)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .aborted(error != null)
+                .error(error)
+                .build();
+        writeLine(report, summary);
+        report.flush();
+        return summary;
+    }
+
+    private void importRows(DataFormat format, InputStream input, OutputStream report, Counters counters) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<String> csvHeader = null;
+        List<PendingRow> chunk = new ArrayList<>(properties.getChunkSize());
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == DataFormat.CSV && csvHeader == null) {
+                csvHeader = CsvUtils.parseLine(line);
+                continue;
+            }
+
+            UserImportRow row;
+            try {
+                row = format == DataFormat.CSV ? fromCsv(csvHeader, line) : objectMapper.readValue(line, UserImportRow.class);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                reject(report, counters, lineNumber, null, "Malformed row");
+                continue;
+            }
+
+            String error = validate(row);
+            if (error != null) {
+                reject(report, counters, lineNumber, row.getEmail(), error);
+                continue;
+            }
+
+            chunk.add(new PendingRow(lineNumber, row));
+            if (chunk.size() >= properties.getChunkSize()) {
+                insertChunk(chunk, report, counters);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, report, counters);
+        }
+    }
+
+    private String validate(UserImportRow row) {
+        boolean prehashed = row.getPassword() == null && row.getPasswordHash() != null;
+        if (prehashed && !passwordHasher.isHashed(row.getPasswordHash())) {
+            return "Password hash must be a BCrypt hash";
+        }
+
+        // A pre-hashed row has no plaintext password to check the registration password rules against.
+        return validator.validate(row, ValidationSequenceOrder.class)
+                .stream()
+                .filter(violation -> !(prehashed && "password".equals(violation.getPropertyPath().toString())))
+                .min(Comparator.comparingInt(violation -> FIELD_ORDER.indexOf(violation.getPropertyPath().toString())))
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+
+    private void insertChunk(List<PendingRow> chunk, OutputStream report, Counters counters) throws IOException {
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                chunk.stream().map(pending -> pending.row().getEmail().toLowerCase(Locale.ROOT)).toList()
+        ));
+
+        Role customer = roleRegistry.getRequired("customer");
+        List<PendingRow> accepted = new ArrayList<>(chunk.size());
+        List<CompletableFuture<String>> passwords = new ArrayList<>(chunk.size());
+        for (PendingRow pending : chunk) {
+            if (!existing.add(pending.row().getEmail().toLowerCase(Locale.ROOT))) {
+                reject(report, counters, pending.line(), pending.row().getEmail(), "Email is already in use");
+                continue;
+            }
+            accepted.add(pending);
+            passwords.add(pending.row().getPassword() != null
+                    ? passwordHasher.encodeAsync(pending.row().getPassword(), hashExecutor)
+                    : CompletableFuture.completedFuture(pending.row().getPasswordHash()));
+        }
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            users.add(toUser(accepted.get(i).row(), passwords.get(i).join(), customer));
+        }
+
+        try {
+            persist(users);
+            counters.imported += users.size();
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent writer took one of the emails; fall back to row-by-row inserts for this chunk.
+            for (int i = 0; i < users.size(); i++) {
+                try {
+                    persist(List.of(detachedCopy(users.get(i), customer)));
+                    counters.imported++;
+                } catch (DataIntegrityViolationException rowException) {
+                    if (!UniqueConstraints.isViolated(rowException, UniqueConstraints.USERS_EMAIL)) {
+                        throw rowException;
+                    }
+                    reject(report, counters, accepted.get(i).line(), accepted.get(i).row().getEmail(), "Email is already in use");
+                }
+            }
+        }
+        report.flush();
+    }
+
+    private void persist(List<User> users) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (User user : users) {
+                entityManager.persist(user);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private static User toUser(UserImportRow row, String password, Role customer) {
+        User user = User.builder()
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .email(row.getEmail())
+                .phoneNumber(row.getPhoneNumber())
+                .password(password)
+                .build();
+        user.addRole(customer);
+        return user;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private static User detachedCopy(User user, Role customer) {
+        User copy = User.builder()
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .password(user.getPassword())
+                .build();
+        copy.addRole(customer);
+        return copy;
+    }
+
+    private static UserImportRow fromCsv(List<String> header, String line) {
+        List<String> values = CsvUtils.parseLine(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " columns");
+        }
+        UserImportRow row = new UserImportRow();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).isEmpty() ? null : values.get(i);
+            switch (header.get(i)) {
+                case "firstName" -> row.setFirstName(value);
+                case "lastName" -> row.setLastName(value);
+                case "email" -> row.setEmail(value);
+                case "phoneNumber" -> row.setPhoneNumber(value);
+                case "password" -> row.setPassword(value);
+                case "passwordHash" -> row.setPasswordHash(value);
+                default -> {
+                }
+            }
+        }
+        return row;
+    }
+
+    private void reject(OutputStream report, Counters counters, long line, String email, String message) throws IOException {
+        counters.rejected++;
+        writeLine(report, ImportRowError.builder().line(line).email(email).message(message).build());
+    }
+
+    private void writeLine(OutputStream report, Object value) throws IOException {
+        report.write(objectMapper.writeValueAsBytes(value));
+        report.write('\n');
+    }
+
+    private record PendingRow(long line, UserImportRow row) {
+    }
+
+    private static final class Counters {
+
+        private long imported;
+        private long rejected;
+    }
+}
@@ -0,0 +1,79 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.dto.UserCursor;
+import com.shopsmart.ecommerceapi.dto.UserFilter;
+import com.shopsmart.ecommerceapi.dto.UserListRow;
+import com.shopsmart.ecommerceapi.dto.UserPage;
+import com.shopsmart.ecommerceapi.dto.UserRoleRow;
+import com.shopsmart.ecommerceapi.dto.UserSummary;
+import com.shopsmart.ecommerceapi.exception.InvalidRequest;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class UserListingService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public UserListingService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * One page of users plus the cursor of the next one. Fetches {@code limit + 1} rows to learn
+     * whether another page exists without counting, then loads the roles of the page in a single
+     * query.
+     */
+    @Transactional(readOnly = true)
+    public UserPage listUsers(UserFilter filter, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequest("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (filter.createdFrom() != null && filter.createdTo() != null && !filter.createdFrom().isBefore(filter.createdTo())) {
+            throw new InvalidRequest("createdFrom must be before createdTo");
+        }
+        UserCursor after = cursor == null || cursor.isEmpty() ? null : UserCursor.decode(cursor);
+
+        List<UserListRow> rows = userRepository.findPage(filter, after, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+
+        Map<Long, List<String>> roles = new HashMap<>();
+        if (!rows.isEmpty()) {
+            for (UserRoleRow row : userRepository.findRoleNames(rows.stream().map(UserListRow::id).toList())) {
+                roles.computeIfAbsent(row.userId(), id -> new ArrayList<>(2)).add(row.roleName());
+            }
+        }
+
+        List<UserSummary> items = new ArrayList<>(rows.size());
+        for (UserListRow row : rows) {
+            items.add(UserSummary.builder()
+                    .id(row.id())
+                    .firstName(row.firstName())
+                    .lastName(row.lastName())
+                    .email(row.email())
+                    .phoneNumber(row.phoneNumber())
+                    .createdAt(row.createdAt())
+                    .roles(roles.getOrDefault(row.id(), List.of()))
+                    .build());
+        }
+
+        return UserPage.builder()
+                .items(items)
+                .nextCursor(hasMore ? UserCursor.of(rows.get(rows.size() - 1)).encode() : null)
+                .build();
+    }
+}
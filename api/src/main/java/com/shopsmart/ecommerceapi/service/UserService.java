@@ -0,0 +1,141 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.dto.RegisterRequest;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.exception.ResourceAlreadyExists;
+import com.shopsmart.ecommerceapi.exception.ResourceDoesNotExist;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics.LoginOutcome;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics.LoginPhase;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics.RegisterOutcome;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics.RegisterPhase;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.repository.UniqueConstraints;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import com.shopsmart.ecommerceapi.security.credentials.CredentialsCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import javax.naming.AuthenticationException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+public class UserService {
+
+    private UserRepository userRepository;
+    private RefreshTokenService refreshTokenService;
+    private RoleRegistry roleRegistry;
+    private PasswordHasher passwordHasher;
+    private ApiMetrics metrics;
+    private CredentialsCache credentialsCache;
+
+    @Autowired
+    public UserService(
+            UserRepository userRepository,
+            RefreshTokenService refreshTokenService,
+            RoleRegistry roleRegistry,
+            PasswordHasher passwordHasher,
+            ApiMetrics metrics,
+            CredentialsCache credentialsCache
+    ) {
+        this.userRepository = userRepository;
+        this.refreshTokenService = refreshTokenService;
+        this.roleRegistry = roleRegistry;
+        this.passwordHasher = passwordHasher;
+        this.metrics = metrics;
+        this.credentialsCache = credentialsCache;
+    }
+
+    /**
+     * Inserts without checking for the email first; the unique index on {@code lower(email)}
+     * decides between concurrent registrations of the same address.
+     */
+    public AuthResponse registerCustomer(RegisterRequest request) {
+        return registerCustomer(User.builder()
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .email(request.getEmail())
+                .phoneNumber(request.getPhoneNumber())
+                .password(request.getPassword())
+                .build());
+    }
+
+    public AuthResponse registerCustomer(User user) {
+        long start = System.nanoTime();
+        RegisterOutcome outcome = RegisterOutcome.ERROR;
+        try {
+            user.addRole(roleRegistry.getRequired("customer"));
+            user.setPassword(metrics.registerPhase(RegisterPhase.PASSWORD_HASH).record(
+                    () -> passwordHasher.encode(user.getPassword())
+            ));
+            try {
+                metrics.registerPhase(RegisterPhase.DB_INSERT).record(() -> userRepository.save(user));
+            } catch (DataIntegrityViolationException e) {
+                if(UniqueConstraints.isViolated(e, UniqueConstraints.USERS_EMAIL)) {
+                    outcome = RegisterOutcome.EMAIL_TAKEN;
+                    throw new ResourceAlreadyExists("Email is already in use");
+                }
+                throw e;
+            }
+            UserCredentials credentials = new UserCredentials(
+                    user.getId(),
+                    user.getEmail(),
+                    user.getPassword(),
+                    user.getRoles().stream().map(Role::getId).collect(Collectors.toUnmodifiableSet())
+            );
+            AuthResponse response = metrics.registerPhase(RegisterPhase.TOKEN_ISSUE).record(
+                    () -> refreshTokenService.issue(credentials)
+            );
+            outcome = RegisterOutcome.SUCCESS;
+            return response;
+        } finally {
+            metrics.register(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public AuthResponse loginCustomer(LoginRequest request) throws AuthenticationException {
+        long start = System.nanoTime();
+        LoginOutcome outcome = LoginOutcome.ERROR;
+        try {
+            Optional<UserCredentials> optionalCredentials = metrics.loginPhase(LoginPhase.DB_LOOKUP).record(
+                    () -> credentialsCache.get(
+                            request.getEmail(),
+                            email -> UserCredentials.fromRows(userRepository.findCredentialsByEmail(email))
+                    )
+            );
+            if(optionalCredentials.isEmpty()) {
+                outcome = LoginOutcome.UNKNOWN_EMAIL;
+                throw new ResourceDoesNotExist("Email is not linked to any account", "email");
+            }
+            UserCredentials credentials = optionalCredentials.get();
+            boolean matches = metrics.loginPhase(LoginPhase.PASSWORD_VERIFY).record(
+                    () -> passwordHasher.matches(request.getPassword(), credentials.password())
+            );
+            if(!matches) {
+                outcome = LoginOutcome.WRONG_PASSWORD;
+                throw new AuthenticationException("Incorrect password");
+            }
+            if(passwordHasher.needsRehash(credentials.password())) {
+                metrics.loginPhase(LoginPhase.PASSWORD_REHASH).record(() -> userRepository.updatePassword(
+                        credentials.id(),
+                        passwordHasher.encode(request.getPassword())
+                ));
+                credentialsCache.evict(credentials.id(), credentials.email());
+            }
+            AuthResponse response = metrics.loginPhase(LoginPhase.TOKEN_ISSUE).record(
+                    () -> refreshTokenService.issue(credentials)
+            );
+            outcome = LoginOutcome.SUCCESS;
+            return response;
+        } finally {
+            metrics.login(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
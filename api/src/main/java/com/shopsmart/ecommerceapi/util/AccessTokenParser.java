@@ -0,0 +1,176 @@
+package com.shopsmart.ecommerceapi.util;
+
+import com.shopsmart.ecommerceapi.security.JwtPrincipal;
+import com.shopsmart.ecommerceapi.verifier.AccessTokenClaims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verifies access tokens and reads their claims straight into a {@link JwtPrincipal} with a
+ * streaming JSON parser, instead of going through jjwt's {@code Claims} map. Only what
+ * {@link JWTUtils} issues is accepted: a compact JWS whose {@code alg} matches its key (HS256 for
+ * secret keys, ES256 for EC public keys), no {@code crit} or {@code zip} header, and an
+ * {@code exp} claim.
+ * <p>
+ * Failures are reported with jjwt's exception types, so callers handle both parsers alike.
+ */
+final class AccessTokenParser {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    // JWS carries ECDSA signatures as r || s, not DER.
+    private static final String EC_SIGNATURE_ALGORITHM = "SHA256withECDSAinP1363Format";
+
+    private final Map<String, KeyVerifier> verifiersByKeyId;
+    private final KeyVerifier fallbackVerifier;
+
+    AccessTokenParser(Map<String, Key> keysById, Key fallbackKey) {
+        Map<String, KeyVerifier> verifiers = new HashMap<>();
+        keysById.forEach((id, key) -> verifiers.put(id, newVerifier(key)));
+        this.verifiersByKeyId = Map.copyOf(verifiers);
+        this.fallbackVerifier = newVerifier(fallbackKey);
+    }
+
+    JwtPrincipal parse(String token) {
+        AccessTokenClaims.Parts parts;
+        try {
+            parts = AccessTokenClaims.split(token);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException(e.getMessage(), e);
+        }
+
+        AccessTokenClaims.Header header = readHeader(parts.header());
+        KeyVerifier verifier = header.keyId() == null ? fallbackVerifier : verifiersByKeyId.get(header.keyId());
+        if (verifier == null) {
+            throw new SignatureException("Unknown JWT key id");
+        }
+        // The algorithm is fixed by the key, never chosen by the token.
+        if (!verifier.algorithm().equals(header.algorithm())) {
+            throw new UnsupportedJwtException("Unsupported JWT algorithm: " + header.algorithm());
+        }
+        if (!verifier.verify(parts.signingInput(), parts.signedLength(), parts.signature())) {
+            throw new SignatureException("JWT signature does not match");
+        }
+        return readPrincipal(parts.payload());
+    }
+
+    private static AccessTokenClaims.Header readHeader(byte[] header) {
+        AccessTokenClaims.Header parsed;
+        try {
+            parsed = AccessTokenClaims.readHeader(header);
+        } catch (IOException e) {
+            throw new MalformedJwtException("Malformed JWT header", e);
+        }
+        if (parsed.unsupportedField() != null) {
+            throw new UnsupportedJwtException("Unsupported JWT header: " + parsed.unsupportedField());
+        }
+        return parsed;
+    }
+
+    private static JwtPrincipal readPrincipal(byte[] payload) {
+        AccessTokenClaims.Claims claims;
+        try {
+            claims = AccessTokenClaims.readClaims(payload);
+        } catch (IOException e) {
+            throw new MalformedJwtException("Malformed JWT payload", e);
+        }
+
+        long now = System.currentTimeMillis();
+        if (!claims.hasExpiration()) {
+            throw new MalformedJwtException("JWT has no expiration");
+        }
+        if (claims.isExpiredAt(now)) {
+            throw new ExpiredJwtException(null, null, "JWT expired");
+        }
+        if (claims.isNotYetValidAt(now)) {
+            throw new PrematureJwtException(null, null, "JWT is not valid yet");
+        }
+        return new JwtPrincipal(claims.userId(), claims.subject(), claims.roleIds(), claims.expiresAtMillis(), claims.tokenId());
+    }
+
+    private static KeyVerifier newVerifier(Key key) {
+        if (key instanceof SecretKey) {
+            return new MacVerifier(key);
+        }
+        if (key instanceof ECPublicKey publicKey) {
+            return new EcVerifier(publicKey);
+        }
+        throw new IllegalStateException("Unsupported JWT key type: " + key.getAlgorithm());
+    }
+
+    private interface KeyVerifier {
+
+        String algorithm();
+
+        boolean verify(byte[] token, int signedLength, byte[] signature);
+    }
+
+    private static final class MacVerifier implements KeyVerifier {
+
+        private final Mac prototype;
+
+        MacVerifier(Key key) {
+            try {
+                prototype = Mac.getInstance(MAC_ALGORITHM);
+                prototype.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialize " + MAC_ALGORITHM, e);
+            }
+        }
+
+        @Override
+        public String algorithm() {
+            return "HS256";
+        }
+
+        @Override
+        public boolean verify(byte[] token, int signedLength, byte[] signature) {
+            Mac mac;
+            try {
+                // The prototype is initialized once and never updated, so cloning it is thread-safe
+                // and much cheaper than Mac.getInstance plus init.
+                mac = (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+            mac.update(token, 0, signedLength);
+            return MessageDigest.isEqual(mac.doFinal(), signature);
+        }
+    }
+
+    private record EcVerifier(ECPublicKey publicKey) implements KeyVerifier {
+
+        @Override
+        public String algorithm() {
+            return "ES256";
+        }
+
+        @Override
+        public boolean verify(byte[] token, int signedLength, byte[] signature) {
+            try {
+                Signature verifier = Signature.getInstance(EC_SIGNATURE_ALGORITHM);
+                verifier.initVerify(publicKey);
+                verifier.update(token, 0, signedLength);
+                return verifier.verify(signature);
+            } catch (java.security.SignatureException e) {
+                // Thrown for signatures of the wrong length or encoding.
+                return false;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialize " + EC_SIGNATURE_ALGORITHM, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.shopsmart.ecommerceapi.util;
+
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics.TokenVerification;
+import com.shopsmart.ecommerceapi.security.IssuedAccessToken;
+import com.shopsmart.ecommerceapi.security.JwtPrincipal;
+import com.shopsmart.ecommerceapi.verifier.AccessTokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class JWTUtils {
+
+    static final String DEFAULT_KEY_ID = "default";
+
+    // Role ids rather than names, and no iat: every byte is sent with each request.
+    static final String ROLES_CLAIM = AccessTokenClaims.ROLES_CLAIM;
+    static final String USER_ID_CLAIM = AccessTokenClaims.USER_ID_CLAIM;
+
+    private static final int TOKEN_ID_BYTES = 16;
+
+    private final SecureRandom random = new SecureRandom();
+    private final long tokenValidityMillis;
+    private final SigningKey[] signingKeys;
+    private final Map<String, Key> verificationKeys;
+    private final Map<String, PublicKey> publicKeys;
+    private final Key fallbackKey;
+    private final JwtParser parser;
+    private final AccessTokenParser accessTokenParser;
+    private final ApiMetrics metrics;
+
+    /**
+     * Uninstrumented: timings are recorded nowhere.
+     */
+    public JWTUtils(JwtProperties properties, String secretKey) {
+        this(properties, secretKey, new ApiMetrics(new CompositeMeterRegistry()));
+    }
+
+    @Autowired
+    public JWTUtils(JwtProperties properties, @Value("${JWT_SECRET_KEY:}") String secretKey, ApiMetrics metrics) {
+        this.metrics = metrics;
+        this.tokenValidityMillis = properties.getAccessTokenValidity().toMillis();
+        List<JwtProperties.SigningKey> configuredKeys = properties.getKeys();
+        if (configuredKeys.isEmpty()) {
+            if (secretKey == null || secretKey.isBlank()) {
+                throw new IllegalStateException("Either JWT_SECRET_KEY or jwt.keys must be configured");
+            }
+            JwtProperties.SigningKey defaultKey = new JwtProperties.SigningKey();
+            defaultKey.setId(DEFAULT_KEY_ID);
+            defaultKey.setSecret(secretKey);
+            configuredKeys = List.of(defaultKey);
+        }
+
+        this.signingKeys = configuredKeys.stream()
+                .map(SigningKey::of)
+                .sorted(Comparator.comparing(SigningKey::activeFrom))
+                .toArray(SigningKey[]::new);
+
+        Map<String, Key> keysById = new HashMap<>();
+        Map<String, PublicKey> publicKeysById = new LinkedHashMap<>();
+        for (SigningKey signingKey : signingKeys) {
+            if (keysById.put(signingKey.id(), signingKey.verificationKey()) != null) {
+                throw new IllegalStateException("Duplicate JWT key id: " + signingKey.id());
+            }
+            if (signingKey.verificationKey() instanceof PublicKey publicKey) {
+                publicKeysById.put(signingKey.id(), publicKey);
+            }
+        }
+        this.verificationKeys = Map.copyOf(keysById);
+        this.publicKeys = Collections.unmodifiableMap(publicKeysById);
+        this.fallbackKey = signingKeys[0].verificationKey();
+
+        // JwtParser is immutable once built and safe to share between request threads.
+        this.parser = Jwts
+                .parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+        this.accessTokenParser = new AccessTokenParser(verificationKeys, fallbackKey);
+    }
+
+    /**
+     * Public keys of the asymmetric (ES256) signing keys by key id, oldest first. HS256 keys are
+     * never exposed.
+     */
+    public Map<String, PublicKey> publicKeys() {
+        return publicKeys;
+    }
+
+    public String extractEmail(String token) {
+        return extractClaim(token, Claims::getSubject);
+    }
+
+    /**
+     * Verifies an access token and reads it into a typed principal without building a
+     * {@link Claims} map; see {@link AccessTokenParser}.
+     */
+    public JwtPrincipal extractPrincipal(String token) {
+        long start = System.nanoTime();
+        TokenVerification verification = TokenVerification.INVALID;
+        try {
+            JwtPrincipal principal = accessTokenParser.parse(token);
+            verification = TokenVerification.VALID;
+            return principal;
+        } catch (ExpiredJwtException e) {
+            verification = TokenVerification.EXPIRED;
+            throw e;
+        } finally {
+            metrics.jwtVerify(verification).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Claims extractAllClaims(String token) {
+        return parser
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
+        final Claims claims = extractAllClaims(token);
+        return claimResolver.apply(claims);
+    }
+
+    public String generateToken(
+            Map<String, Object> extraClaims,
+            User user
+    ) {
+        return generateToken(
+                extraClaims,
+                user.getId(),
+                user.getEmail(),
+                user.getRoles().stream().map(Role::getId).collect(Collectors.toUnmodifiableSet())
+        );
+    }
+
+    public String generateToken(User user) {
+        return generateToken(new HashMap<>(), user);
+    }
+
+    public String generateToken(UserCredentials credentials) {
+        return generateAccessToken(credentials).token();
+    }
+
+    public IssuedAccessToken generateAccessToken(UserCredentials credentials) {
+        return generateAccessToken(new HashMap<>(), credentials.id(), credentials.email(), credentials.roleIds());
+    }
+
+    private String generateToken(
+            Map<String, Object> extraClaims,
+            Long userId,
+            String subject,
+            Collection<Integer> roleIds
+    ) {
+        return generateAccessToken(extraClaims, userId, subject, roleIds).token();
+    }
+
+    private IssuedAccessToken generateAccessToken(
+            Map<String, Object> extraClaims,
+            Long userId,
+            String subject,
+            Collection<Integer> roleIds
+    ) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + tokenValidityMillis;
+        SigningKey signingKey = activeSigningKey(now);
+        String tokenId = newTokenId();
+
+        long start = System.nanoTime();
+        String token = Jwts
+                .builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
+                .setClaims(extraClaims)
+                .setSubject(subject)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLES_CLAIM, roleIds)
+                .setId(tokenId)
+                .setExpiration(new Date(expiresAt))
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
+                .compact();
+        metrics.jwtSign(signingKey.algorithm().getValue()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new IssuedAccessToken(token, tokenId, expiresAt);
+    }
+
+    private String newTokenId() {
+        byte[] bytes = new byte[TOKEN_ID_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private SigningKey activeSigningKey(long now) {
+        for (int i = signingKeys.length - 1; i > 0; i--) {
+            if (signingKeys[i].activeFrom().toEpochMilli() <= now) {
+                return signingKeys[i];
+            }
+        }
+        return signingKeys[0];
+    }
+
+    private Key resolveVerificationKey(String keyId) {
+        // Tokens issued before key ids were introduced carry no kid header.
+        if (keyId == null) {
+            return fallbackKey;
+        }
+        Key key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id");
+        }
+        return key;
+    }
+
+    private record SigningKey(String id, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey, Instant activeFrom) {
+
+        static SigningKey of(JwtProperties.SigningKey properties) {
+            Instant activeFrom = properties.getActiveFrom() == null ? Instant.EPOCH : properties.getActiveFrom();
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(properties.getAlgorithm());
+            if (algorithm == SignatureAlgorithm.HS256) {
+                Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret()));
+                return new SigningKey(properties.getId(), algorithm, key, key, activeFrom);
+            }
+            if (algorithm == SignatureAlgorithm.ES256) {
+                try {
+                    KeyFactory keyFactory = KeyFactory.getInstance("EC");
+                    PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Decoders.BASE64.decode(properties.getPrivateKey())));
+                    PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Decoders.BASE64.decode(properties.getPublicKey())));
+                    return new SigningKey(properties.getId(), algorithm, privateKey, publicKey, activeFrom);
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("Invalid ES256 key pair for JWT key id " + properties.getId(), e);
+                }
+            }
+            throw new IllegalStateException("Unsupported JWT algorithm " + algorithm + " for key id " + properties.getId());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.shopsmart.ecommerceapi.validation;
+
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.dto.RegisterRequest;
+import com.shopsmart.ecommerceapi.exception.InvalidRequest;
+import com.shopsmart.ecommerceapi.model.ValidationSequenceOrder;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks registration and login requests against the rules and messages of the Bean Validation
+ * constraints on {@link RegisterRequest} and {@link LoginRequest}, written out as plain code: no
+ * reflection, no constraint metadata, and no regular expressions. The one exception is
+ * {@code @Email}, which goes through the Bean Validation API so both agree on what an email is;
+ * {@link #validate} only reaches it when no cheaper rule has failed.
+ * <p>
+ * As with {@link ValidationSequenceOrder}, the password length minimum is only checked once every
+ * other rule passes. Violations are listed in field declaration order, so the one reported is
+ * always the first field's, where Bean Validation's order is unspecified.
+ * AuthRequestValidatorTest keeps the two in step.
+ */
+@Component
+public class AuthRequestValidator {
+
+    private static final int MAX_NAME_LENGTH = 45;
+    private static final int MAX_EMAIL_LENGTH = 256;
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_PASSWORD_LENGTH = 20;
+
+    private final Validator beanValidator;
+
+    public record Violation(String field, String message) {
+    }
+
+    @Autowired
+    public AuthRequestValidator(Validator beanValidator) {
+        this.beanValidator = beanValidator;
+    }
+
+    /**
+     * @throws InvalidRequest with the message of the first violation
+     */
+    public void validate(RegisterRequest request) {
+        throwFirst(check(request, new Violations(1)));
+    }
+
+    public void validate(LoginRequest request) {
+        throwFirst(check(request, new Violations(1)));
+    }
+
+    public List<Violation> violations(RegisterRequest request) {
+        return check(request, new Violations(Integer.MAX_VALUE)).list();
+    }
+
+    public List<Violation> violations(LoginRequest request) {
+        return check(request, new Violations(Integer.MAX_VALUE)).list();
+    }
+
+    private Violations check(RegisterRequest request, Violations violations) {
+        checkName(violations, "firstName", request.getFirstName(), "First name is required", "Please use a valid first name");
+        checkName(violations, "lastName", request.getLastName(), "Last name is required", "Please use a valid last name");
+
+        String email = request.getEmail();
+        if (email != null && email.length() > MAX_EMAIL_LENGTH) {
+            violations.add("email", "Please use a valid email");
+        }
+        if (isBlank(email)) {
+            violations.add("email", "Email is required");
+        }
+        if (!violations.isFull() && !isEmail(email)) {
+            violations.add("email", "Please use a valid email");
+        }
+
+        if (isBlank(request.getPhoneNumber())) {
+            violations.add("phoneNumber", "Phone number is required");
+        }
+
+        String password = request.getPassword();
+        if (password != null && password.length() > MAX_PASSWORD_LENGTH) {
+            violations.add("password", "Password must not exceed 20 characters length");
+        }
+        if (isBlank(password)) {
+            violations.add("password", "Password is required");
+        }
+
+        // SecondValidation group.
+        if (violations.isEmpty() && password.length() < MIN_PASSWORD_LENGTH) {
+            violations.add("password", "Password must be at least 8 characters long");
+        }
+        return violations;
+    }
+
+    private Violations check(LoginRequest request, Violations violations) {
+        if (!isEmail(request.getEmail())) {
+            violations.add("email", "Invalid email");
+        }
+        return violations;
+    }
+
+    private static void checkName(Violations violations, String field, String value, String requiredMessage, String invalidMessage) {
+        if (isBlank(value)) {
+            violations.add(field, requiredMessage);
+        }
+        if (value != null && !isLettersOnly(value)) {
+            violations.add(field, invalidMessage);
+        }
+    }
+
+    // @NotBlank: String.trim() removes every character up to and including the space.
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // @Pattern("^[a-zA-Z]{0,45}$"), which Hibernate Validator applies with Matcher.matches().
+    private static boolean isLettersOnly(String value) {
+        if (value.length() > MAX_NAME_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // @Email accepts null and empty values; @NotBlank reports those. LoginRequest.email carries
+    // @Email alone, with the same attributes as RegisterRequest.email's.
+    private boolean isEmail(String value) {
+        if (value == null || value.isEmpty()) {
+            return true;
+        }
+        return beanValidator.validateValue(LoginRequest.class, "email", value).isEmpty();
+    }
+
+    private static void throwFirst(Violations violations) {
+        if (!violations.isEmpty()) {
+            throw new InvalidRequest(violations.list().get(0).message());
+        }
+    }
+
+    /**
+     * Allocates only once a violation is found, and stops recording at {@code limit}.
+     */
+    private static final class Violations {
+
+        private final int limit;
+        private List<Violation> list;
+
+        Violations(int limit) {
+            this.limit = limit;
+        }
+
+        void add(String field, String message) {
+            if (list == null) {
+                list = new ArrayList<>(limit == 1 ? 1 : 4);
+            }
+            if (list.size() < limit) {
+                list.add(new Violation(field, message));
+            }
+        }
+
+        boolean isEmpty() {
+            return list == null;
+        }
+
+        boolean isFull() {
+            return list != null && list.size() >= limit;
+        }
+
+        List<Violation> list() {
+            return list == null ? List.of() : list;
+        }
+    }
+}
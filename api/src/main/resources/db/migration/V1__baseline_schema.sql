@@ -0,0 +1,77 @@
+-- Baseline of the schema previously managed by hibernate ddl-auto=update. Every statement is
+-- idempotent so it can also be applied on top of a database created that way
+-- (spring.flyway.baseline-on-migrate with baseline version 0).
+
+create sequence if not exists users_seq start with 1 increment by 50;
+alter sequence users_seq increment by 50;
+
+create table if not exists users (
+    id           bigint       not null default nextval('users_seq'),
+    first_name   varchar(255),
+    last_name    varchar(255),
+    email        varchar(256),
+    phone_number varchar(255),
+    password     varchar(100),
+    created_at   timestamp(6),
+    constraint users_pkey primary key (id)
+);
+
+-- Older databases generated the id as an identity column.
+alter table users alter column id drop identity if exists;
+alter table users alter column id set default nextval('users_seq');
+alter table users alter column password type varchar(100);
+alter sequence users_seq owned by users.id;
+
+-- Ids are handed out in blocks of 50 (pooled-lo), so the sequence only has to be past max(id).
+select setval('users_seq', (select coalesce(max(id), 0) + 1 from users), false)
+where (select last_value from users_seq) <= (select coalesce(max(id), 0) from users);
+
+-- Login and registration look emails up case-insensitively. text_pattern_ops also serves the
+-- email-prefix filter of the admin listing (LIKE 'prefix%') under any collation.
+create unique index if not exists ux_users_email_lower on users (lower(email) text_pattern_ops);
+create index if not exists idx_users_created_at_id on users (created_at, id);
+
+create table if not exists roles (
+    id   integer generated by default as identity,
+    name varchar(255),
+    constraint roles_pkey primary key (id)
+);
+
+create unique index if not exists ux_roles_name on roles (name);
+
+create table if not exists users_roles (
+    users_id bigint  not null,
+    roles_id integer not null,
+    constraint users_roles_pkey primary key (users_id, roles_id)
+);
+
+do $$
+begin
+    -- Hibernate created the primary key as (roles_id, users_id), which does not serve lookups by user.
+    if exists (select 1 from pg_index i
+               join pg_attribute a on a.attrelid = i.indrelid and a.attnum = i.indkey[0]
+               where i.indrelid = 'users_roles'::regclass and i.indisprimary and a.attname <> 'users_id') then
+        alter table users_roles drop constraint users_roles_pkey;
+    end if;
+    if not exists (select 1 from pg_constraint where conrelid = 'users_roles'::regclass and contype = 'p') then
+        alter table users_roles add constraint users_roles_pkey primary key (users_id, roles_id);
+    end if;
+    if not exists (select 1 from pg_constraint
+                   where conrelid = 'users_roles'::regclass and contype = 'f' and confrelid = 'users'::regclass) then
+        alter table users_roles add constraint fk_users_roles_users
+            foreign key (users_id) references users (id) on delete cascade;
+    end if;
+    if not exists (select 1 from pg_constraint
+                   where conrelid = 'users_roles'::regclass and contype = 'f' and confrelid = 'roles'::regclass) then
+        alter table users_roles add constraint fk_users_roles_roles
+            foreign key (roles_id) references roles (id);
+    end if;
+end
+$$;
+
+-- users_id is covered by the primary key; roles_id needs its own index for the role filter and
+-- for deletes on roles.
+create index if not exists idx_users_roles_roles_id on users_roles (roles_id);
+
+insert into roles (name) values ('customer') on conflict do nothing;
+insert into roles (name) values ('admin') on conflict do nothing;
@@ -0,0 +1,34 @@
+-- Opaque refresh tokens, stored as the SHA-256 of the token. Every rotation adds a row to the
+-- token's family and marks the presented one as used; presenting a used token again revokes the
+-- whole family, together with the access tokens issued alongside it.
+create table refresh_tokens (
+    id                bigint       generated by default as identity,
+    token_hash        varchar(43)  not null,
+    user_id           bigint       not null,
+    family_id         uuid         not null,
+    access_token_id   varchar(22)  not null,
+    access_expires_at timestamp(6) with time zone not null,
+    issued_at         timestamp(6) with time zone not null,
+    expires_at        timestamp(6) with time zone not null,
+    used_at           timestamp(6) with time zone,
+    revoked_at        timestamp(6) with time zone,
+    constraint refresh_tokens_pkey primary key (id),
+    constraint fk_refresh_tokens_users foreign key (user_id) references users (id) on delete cascade
+);
+
+create unique index ux_refresh_tokens_token_hash on refresh_tokens (token_hash);
+create index idx_refresh_tokens_family_id on refresh_tokens (family_id);
+create index idx_refresh_tokens_user_id on refresh_tokens (user_id);
+create index idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
+
+-- Revoked access tokens until they expire. Instances load the live rows at startup and poll for
+-- new ones by revoked_at.
+create table revoked_access_tokens (
+    token_id   varchar(22)  not null,
+    expires_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone not null,
+    constraint revoked_access_tokens_pkey primary key (token_id)
+);
+
+create index idx_revoked_access_tokens_revoked_at on revoked_access_tokens (revoked_at);
+create index idx_revoked_access_tokens_expires_at on revoked_access_tokens (expires_at);
@@ -0,0 +1,9 @@
+-- The admin listing pages on (created_at, id), so a user without created_at could not be listed.
+-- Rows from before the column was filled, or inserted outside Hibernate, get the oldest known
+-- creation time: they predate every timestamped row.
+update users
+set created_at = coalesce((select min(created_at) from users), now())
+where created_at is null;
+
+alter table users alter column created_at set default now();
+alter table users alter column created_at set not null;
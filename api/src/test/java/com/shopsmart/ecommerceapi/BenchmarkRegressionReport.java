@@ -0,0 +1,177 @@
+package com.shopsmart.ecommerceapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result with the stored baseline and writes a Markdown table of the changes,
+ * for the review of changes to the hot paths. Run by the {@code jmh} profile after the benchmarks:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec exec:exec@jmh-report
+ * </pre>
+ * {@code -Djmh.threshold} sets the threshold (10 by default), {@code -Djmh.args} the benchmarks
+ * and JMH options.
+ * <p>
+ * Benchmarks are matched by name, mode and parameters. A benchmark regressed when its score got worse
+ * by more than the threshold, in percent, and by more than the two score errors together, so that
+ * noise alone does not fail the run. Throughput scores are better higher, all other modes lower.
+ * Scores whose unit changed are listed but not compared. Benchmarks missing from the baseline are
+ * listed as new; the baseline's benchmarks that were not run are only counted, so a subset can be
+ * compared against the full baseline.
+ * <p>
+ * Exits with 1 if anything regressed. The report also writes the current result trimmed to what it
+ * compares, without the raw samples, percentiles and local JVM path, to
+ * {@code api/target/jmh-baseline.json}. To accept the current results as the new baseline, run the full
+ * suite and copy that file over {@code api/src/jmh/baseline.json}; both should come from the same machine
+ * and JMH options.
+ */
+public final class BenchmarkRegressionReport {
+
+    /** Run fields kept in the trimmed form, besides the primary metric. */
+    private static final List<String> RUN_FIELDS = List.of(
+            "jmhVersion", "benchmark", "mode", "threads", "forks", "jdkVersion",
+            "warmupIterations", "warmupTime", "measurementIterations", "measurementTime", "params");
+
+    private static final List<String> METRIC_FIELDS = List.of("score", "scoreError", "scoreUnit");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkRegressionReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: BenchmarkRegressionReport <baseline.json> <result.json> <threshold-percent> [report.md] [trimmed-result.json]");
+            System.exit(2);
+        }
+        Comparison comparison = compare(read(Path.of(args[0])), read(Path.of(args[1])), Double.parseDouble(args[2]) / 100);
+        String report = String.format(Locale.ROOT, "Benchmarks against %s, threshold %s%%: ", args[0], args[2]) + comparison.markdown();
+        System.out.print(report);
+        if (args.length > 3) {
+            Files.writeString(Path.of(args[3]), report);
+        }
+        if (args.length > 4) {
+            writeTrimmed(Path.of(args[1]), Path.of(args[4]));
+        }
+        if (comparison.regressions() > 0) {
+            System.exit(1);
+        }
+    }
+
+    static Comparison compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        List<String> rows = new ArrayList<>();
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : new TreeMap<>(current).entrySet()) {
+            String key = entry.getKey();
+            Score before = baseline.get(key);
+            Score after = entry.getValue();
+            if (before == null) {
+                rows.add(row(key, after.unit(), null, after, "", "new"));
+                continue;
+            }
+            if (!before.unit().equals(after.unit())) {
+                rows.add(row(key, after.unit(), before, after, "", "unit changed from " + before.unit()));
+                continue;
+            }
+            double change = (after.value() - before.value()) / before.value();
+            double worse = after.higherIsBetter() ? -change : change;
+            boolean significant = Math.abs(after.value() - before.value()) > before.error() + after.error();
+            String verdict;
+            if (worse > threshold && significant) {
+                verdict = "**regression**";
+                regressions++;
+            } else if (-worse > threshold && significant) {
+                verdict = "improvement";
+            } else {
+                verdict = "";
+            }
+            rows.add(row(key, after.unit(), before, after, String.format(Locale.ROOT, "%+.1f%%", change * 100), verdict));
+        }
+        long notRun = baseline.keySet().stream().filter(key -> !current.containsKey(key)).count();
+        return new Comparison(rows, regressions, notRun);
+    }
+
+    private static String row(String key, String unit, Score before, Score after, String change, String verdict) {
+        return String.format(Locale.ROOT, "| %s | %s | %s | %s | %s | %s |", key, unit, format(before), format(after), change, verdict);
+    }
+
+    private static String format(Score score) {
+        return score == null ? "" : String.format(Locale.ROOT, "%.3f +/- %.3f", score.value(), score.error());
+    }
+
+    /** Reads a JMH JSON result, raw or trimmed, keyed by {@link #key(JsonNode)}. */
+    static Map<String, Score> read(Path path) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : MAPPER.readTree(path.toFile())) {
+            JsonNode metric = run.get("primaryMetric");
+            String mode = run.get("mode").asText();
+            double error = metric.get("scoreError").asDouble();
+            scores.put(key(run), new Score(
+                    metric.get("score").asDouble(),
+                    // JMH reports NaN when there were too few iterations to compute it.
+                    Double.isNaN(error) ? 0 : error,
+                    metric.get("scoreUnit").asText(),
+                    mode.equals("thrpt")
+            ));
+        }
+        return scores;
+    }
+
+    /** Writes {@code result} without the fields the report does not read, for use as the baseline. */
+    static void writeTrimmed(Path result, Path trimmed) throws IOException {
+        ArrayNode runs = MAPPER.createArrayNode();
+        for (JsonNode run : MAPPER.readTree(result.toFile())) {
+            ObjectNode kept = runs.addObject();
+            RUN_FIELDS.stream().filter(run::has).forEach(field -> kept.set(field, run.get(field)));
+            ObjectNode metric = kept.putObject("primaryMetric");
+            METRIC_FIELDS.forEach(field -> metric.set(field, run.get("primaryMetric").get(field)));
+        }
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(trimmed.toFile(), runs);
+    }
+
+    static String key(JsonNode run) {
+        String benchmark = run.get("benchmark").asText();
+        StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1))
+                .append(' ').append(run.get("mode").asText());
+        JsonNode params = run.get("params");
+        if (params != null) {
+            Map<String, String> sorted = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                sorted.put(param.getKey(), param.getValue().asText());
+            }
+            StringBuilder joined = new StringBuilder();
+            sorted.forEach((name, value) -> joined.append(joined.length() == 0 ? "" : ", ").append(name).append('=').append(value));
+            key.append(" (").append(joined).append(')');
+        }
+        return key.toString();
+    }
+
+    record Score(double value, double error, String unit, boolean higherIsBetter) {
+    }
+
+    record Comparison(List<String> rows, int regressions, long notRun) {
+
+        String markdown() {
+            StringBuilder markdown = new StringBuilder()
+                    .append(String.format(Locale.ROOT, "%d regression(s), %d baseline benchmark(s) not run%n%n", regressions, notRun))
+                    .append("| Benchmark | Unit | Baseline | Current | Change | |\n")
+                    .append("|---|---|---:|---:|---:|---|\n");
+            rows.forEach(row -> markdown.append(row).append('\n'));
+            return markdown.toString();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.shopsmart.ecommerceapi;
+
+import com.shopsmart.ecommerceapi.BenchmarkRegressionReport.Comparison;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class BenchmarkRegressionReportTest {
+
+    @Test
+    public void givenBaselineAndResult_whenCompare_thenMatchByModeAndSkipChangedUnits() throws Exception {
+        // When
+        Comparison comparison = BenchmarkRegressionReport.compare(
+                BenchmarkRegressionReport.read(fixture("baseline.json")),
+                BenchmarkRegressionReport.read(fixture("result.json")),
+                0.10);
+
+        // Then
+        assertEquals(1, comparison.regressions());
+        assertEquals(1, comparison.notRun());
+        assertEquals(List.of(
+                "| AuthRequestValidatorBenchmark.validLogin sample | ns/op | 500.000 +/- 5.000 | 520.000 +/- 5.000 | +4.0% |  |",
+                "| JWTUtilsBenchmark.sign avgt (roles=2) | us/op | 1000.000 +/- 10.000 | 800.000 +/- 10.000 | -20.0% | improvement |",
+                "| JWTUtilsBenchmark.sign thrpt (roles=2) | ops/s | 1000.000 +/- 10.000 | 800.000 +/- 10.000 | -20.0% | **regression** |",
+                "| JWTUtilsBenchmark.verify avgt | ns/op | 2.000 +/- 0.000 | 2100.000 +/- 20.000 |  | unit changed from us/op |",
+                "| UserImportBenchmark.prehashed thrpt | ops/s |  | 7400.000 +/- 100.000 |  | new |"
+        ), comparison.rows());
+    }
+
+    @Test
+    public void givenRawResult_whenWriteTrimmed_thenDropSamplesAndKeepScores(@TempDir Path dir) throws Exception {
+        // Given
+        Path trimmed = dir.resolve("baseline.json");
+
+        // When
+        BenchmarkRegressionReport.writeTrimmed(fixture("baseline.json"), trimmed);
+
+        // Then
+        String json = Files.readString(trimmed);
+        assertFalse(json.contains("rawData"));
+        assertFalse(json.contains("scorePercentiles"));
+        assertFalse(json.contains("\"jvm\""));
+        assertEquals(BenchmarkRegressionReport.read(fixture("baseline.json")), BenchmarkRegressionReport.read(trimmed));
+    }
+
+    private static Path fixture(String name) throws URISyntaxException, IOException {
+        return Path.of(BenchmarkRegressionReportTest.class.getResource("/jmh/" + name).toURI());
+    }
+}
@@ -2,15 +2,13 @@ package com.shopsmart.ecommerceapi;
 
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @TestConfiguration
 public class TestConfig {
+    // RestTemplate registers a Jackson converter itself when Jackson is on the classpath.
     @Bean
     public RestTemplate customRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.getMessageConverters().add(new MappingJackson2HttpMessageConverter());
-        return restTemplate;
+        return new RestTemplate();
     }
-}
\ No newline at end of file
+}
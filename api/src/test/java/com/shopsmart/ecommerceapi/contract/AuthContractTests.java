@@ -0,0 +1,207 @@
+package com.shopsmart.ecommerceapi.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The register and login cases of {@code UserControllerIT}, written against HTTP only so that the
+ * servlet and the reactive stack are held to the same status codes and error bodies.
+ */
+@Testcontainers
+public abstract class AuthContractTests {
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + psql.getHost() + ":"
+                + psql.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + psql.getDatabaseName());
+        registry.add("spring.r2dbc.username", psql::getUsername);
+        registry.add("spring.r2dbc.password", psql::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private WebTestClient client;
+
+    // The reactive stack does not migrate the schema itself.
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(psql.getJdbcUrl(), psql.getUsername(), psql.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(psql.getJdbcUrl(), psql.getUsername(), psql.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("delete from users_roles");
+            statement.executeUpdate("delete from users");
+        }
+    }
+
+    @Test
+    public void givenValidUser_whenRegisterCustomer_thenReturn201AndToken() {
+
+        // When
+        JsonNode body = post("/api/v1/users/register", user(Map.of()), 201);
+
+        // Then
+        assertNotNull(body.get("token").asText());
+        assertNotNull(body.get("refreshToken").asText());
+    }
+
+    static Stream<Arguments> invalidUsers() {
+        return Stream.of(
+                Arguments.of("firstName", "", "First name is required"),
+                Arguments.of("lastName", "", "Last name is required"),
+                Arguments.of("email", "", "Email is required"),
+                Arguments.of("phoneNumber", "", "Phone number is required"),
+                Arguments.of("password", "", "Password is required"),
+                Arguments.of("firstName", "test1", "Please use a valid first name"),
+                Arguments.of("lastName", "test1", "Please use a valid last name"),
+                Arguments.of("firstName", "a".repeat(46), "Please use a valid first name"),
+                Arguments.of("lastName", "a".repeat(46), "Please use a valid last name"),
+                Arguments.of("email", "test", "Please use a valid email"),
+                Arguments.of("email", "a".repeat(250) + "@test.com", "Please use a valid email"),
+                Arguments.of("password", "a".repeat(21), "Password must not exceed 20 characters length"),
+                Arguments.of("password", "test@12", "Password must be at least 8 characters long")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidUsers")
+    public void givenInvalidField_whenRegisterCustomer_thenReturn400AndMessage(String field, String value, String message) {
+
+        // When
+        JsonNode body = post("/api/v1/users/register", user(Map.of(field, value)), 400);
+
+        // Then
+        assertEquals(message, body.get("message").asText());
+        assertEquals("BAD_REQUEST", body.get("httpStatus").asText());
+    }
+
+    @Test
+    public void givenUserWithAlreadyInUseEmail_whenRegisterCustomer_thenReturn409AndMessage() {
+
+        // Given
+        post("/api/v1/users/register", user(Map.of()), 201);
+
+        // When
+        JsonNode body = post("/api/v1/users/register", user(Map.of("email", "TEST@test.com")), 409);
+
+        // Then
+        assertEquals("Email is already in use", body.get("message").asText());
+        assertEquals("CONFLICT", body.get("httpStatus").asText());
+    }
+
+    @Test
+    public void givenExistingUserEmailAndPassword_whenLoginCustomer_thenReturn200AndToken() {
+
+        // Given
+        post("/api/v1/users/register", user(Map.of()), 201);
+
+        // When
+        JsonNode body = post("/api/v1/users/login", Map.of("email", "test@test.com", "password", "test@123"), 200);
+
+        // Then
+        assertNotNull(body.get("token").asText());
+        assertNotNull(body.get("refreshToken").asText());
+    }
+
+    @Test
+    public void givenNonExistingUserEmail_whenLoginCustomer_thenReturn400AndMessage() {
+
+        // When
+        JsonNode body = post("/api/v1/users/login", Map.of("email", "test@test.com", "password", "test@123"), 400);
+
+        // Then
+        assertEquals("Email is not linked to any account", body.get("message").asText());
+        assertEquals("email", body.get("field").asText());
+    }
+
+    @Test
+    public void givenInvalidUserEmail_whenLoginCustomer_thenReturn400AndMessage() {
+
+        // When
+        JsonNode body = post("/api/v1/users/login", Map.of("email", "test", "password", "test@123"), 400);
+
+        // Then
+        assertEquals("Invalid email", body.get("message").asText());
+    }
+
+    @Test
+    public void givenUserWithWrongPassword_whenLoginCustomer_thenReturn400AndMessage() {
+
+        // Given
+        post("/api/v1/users/register", user(Map.of()), 201);
+
+        // When
+        JsonNode body = post("/api/v1/users/login", Map.of("email", "test@test.com", "password", "test@1234"), 400);
+
+        // Then
+        assertEquals("Incorrect password", body.get("message").asText());
+    }
+
+    private static Map<String, String> user(Map<String, String> overrides) {
+        Map<String, String> user = new HashMap<>(Map.of(
+                "firstName", "test",
+                "lastName", "test",
+                "email", "test@test.com",
+                "phoneNumber", "+212600000000",
+                "password", "test@123"
+        ));
+        user.putAll(overrides);
+        return user;
+    }
+
+    private JsonNode post(String uri, Object body, int expectedStatus) {
+        return client.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isEqualTo(expectedStatus)
+                .expectBody(JsonNode.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,12 @@
+package com.shopsmart.ecommerceapi.contract;
+
+import com.shopsmart.ecommerceapi.reactive.ReactiveAuthApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        classes = ReactiveAuthApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive"
+)
+public class ReactiveAuthContractIT extends AuthContractTests {
+}
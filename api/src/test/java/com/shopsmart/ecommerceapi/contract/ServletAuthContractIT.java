@@ -0,0 +1,7 @@
+package com.shopsmart.ecommerceapi.contract;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ServletAuthContractIT extends AuthContractTests {
+}
@@ -0,0 +1,190 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.dto.RegisterRequest;
+import com.shopsmart.ecommerceapi.load.HikariPoolSampler;
+import com.shopsmart.ecommerceapi.load.LoadGenerator;
+import com.shopsmart.ecommerceapi.load.LoadResult;
+import com.shopsmart.ecommerceapi.load.LoadSettings;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Release load test: a mix of registrations, logins, failed logins and invalid payloads against
+ * the application on a Postgres container, reporting throughput, corrected latency percentiles,
+ * error rates and connection pool saturation, also written to {@code target/load-report.txt}.
+ * Sized with the {@code load.*} properties of {@link LoadSettings}, for example:
+ * <pre>
+ * mvn test -Dtest=AuthLoadIT -Dload.rate=200 -Dload.duration=120
+ * mvn test -Dtest=AuthLoadIT -Dload.model=closed -Dload.concurrency=64 -Dload.rate=0
+ * mvn test -Dtest=AuthLoadIT -Dload.mix=login=1 -Dspring.datasource.hikari.maximum-pool-size=10
+ * </pre>
+ * The run fails if more than {@code load.max-error-rate} (1% by default) of the requests got an
+ * unexpected response or none.
+ */
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AuthLoadIT {
+
+    private static final String DEFAULT_MIX = "register=10,login=70,failed_login=15,invalid_payload=5";
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    enum Operation { REGISTER, LOGIN, FAILED_LOGIN, INVALID_PAYLOAD }
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeEach
+    public void setUp() {
+        String password = passwordHasher.encode("test@123");
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{"load" + i + "@test.com", password});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (first_name, last_name, email, phone_number, password) VALUES ('load', 'test', ?, '+212600000000', ?)",
+                users
+        );
+        jdbcTemplate.update(
+                "INSERT INTO users_roles (users_id, roles_id) SELECT u.id, r.id FROM users u, roles r WHERE r.name = 'customer'"
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from refresh_tokens");
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenTrafficMix_whenRunLoad_thenReportLatencyErrorsAndPoolSaturation() throws Exception {
+        // Given
+        LoadSettings<Operation> settings = LoadSettings.fromSystemProperties(Operation.class, DEFAULT_MIX);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        LoadGenerator<Operation> generator = new LoadGenerator<>(settings, new AuthScenario(), client);
+
+        // When
+        LoadResult<Operation> result;
+        String poolReport;
+        try (HikariPoolSampler pool = new HikariPoolSampler(dataSource, Duration.ofMillis(50), settings.warmup())) {
+            result = generator.run(Operation.class);
+            poolReport = pool.report();
+        }
+
+        // Then
+        String report = result.report(settings, settings.duration()) + poolReport;
+        System.out.print(report);
+        Files.writeString(Path.of("target", "load-report.txt"), report);
+        assertTrue(result.count() > 0, "No request was measured");
+        assertTrue(result.errorRate() <= MAX_ERROR_RATE, "Error rate above " + MAX_ERROR_RATE + ":\n" + report);
+    }
+
+    private class AuthScenario implements LoadGenerator.Scenario<Operation> {
+
+        @Override
+        public HttpRequest request(Operation operation, long sequence) {
+            return switch (operation) {
+                case REGISTER -> post("/api/v1/users/register", register("load-new" + sequence + "@test.com"));
+                case LOGIN -> post("/api/v1/users/login", login(sequence, "test@123"));
+                case FAILED_LOGIN -> post("/api/v1/users/login", login(sequence, "wrong-password"));
+                case INVALID_PAYLOAD -> post("/api/v1/users/register", register("not-an-email"));
+            };
+        }
+
+        @Override
+        public String check(Operation operation, HttpResponse<?> response) {
+            int expected = switch (operation) {
+                case REGISTER -> 201;
+                case LOGIN -> 200;
+                case FAILED_LOGIN, INVALID_PAYLOAD -> 400;
+            };
+            return response.statusCode() == expected ? null : "HTTP " + response.statusCode();
+        }
+
+        private HttpRequest post(String path, Object body) {
+            try {
+                return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                        .build();
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private LoginRequest login(long sequence, String password) {
+            return LoginRequest.builder()
+                    .email("load" + (sequence % USERS) + "@test.com")
+                    .password(password)
+                    .build();
+        }
+
+        private RegisterRequest register(String email) {
+            return RegisterRequest.builder()
+                    .firstName("load")
+                    .lastName("test")
+                    .email(email)
+                    .phoneNumber("+212600000000")
+                    .password("test@123")
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks h2c and response compression, and compares listing throughput over HTTP/1.1 and h2c.
+ * The load is sized with system properties:
+ * <pre>
+ * mvn test -Dtest=HttpProtocolIT -Dhttp.requests=20000 -Dhttp.concurrency=200
+ * </pre>
+ */
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "security.password.bcrypt-strength=4"
+)
+public class HttpProtocolIT {
+
+    private static final int REQUESTS = Integer.getInteger("http.requests", 2_000);
+    private static final int CONCURRENCY = Integer.getInteger("http.concurrency", 64);
+    private static final int USERS = 60;
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeEach
+    public void setUp() {
+        String password = passwordHasher.encode("test@123");
+        for (int i = 0; i < USERS; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO users (first_name, last_name, email, phone_number, password) VALUES ('test', 'test', ?, '+212600000000', ?)",
+                    "user" + i + "@test.com", password
+            );
+        }
+        jdbcTemplate.update(
+                "INSERT INTO users_roles (users_id, roles_id) SELECT u.id, r.id FROM users u, roles r WHERE u.email = 'user0@test.com' AND r.name IN ('customer', 'admin')"
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from refresh_tokens");
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenH2cClient_whenRequest_thenServeHttp2AndCompressOnlyLargeBodies() throws Exception {
+        // Given
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+        // When
+        HttpResponse<String> login = client.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+        String token = mapper.readValue(login.body(), AuthResponse.class).getToken();
+        HttpResponse<byte[]> listing = client.send(listingRequest(token), HttpResponse.BodyHandlers.ofByteArray());
+
+        // Then
+        assertEquals(200, login.statusCode());
+        assertTrue(login.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals(200, listing.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, listing.version());
+        assertEquals("gzip", listing.headers().firstValue("Content-Encoding").orElse(null));
+    }
+
+    @Test
+    public void givenConcurrentClients_whenListUsers_thenReportThroughputPerProtocol() throws Exception {
+        String token = mapper.readValue(
+                HttpClient.newHttpClient().send(loginRequest(), HttpResponse.BodyHandlers.ofString()).body(),
+                AuthResponse.class
+        ).getToken();
+        for (HttpClient.Version version : List.of(HttpClient.Version.HTTP_1_1, HttpClient.Version.HTTP_2)) {
+            // Given
+            HttpClient client = HttpClient.newBuilder().version(version).build();
+            HttpRequest request = listingRequest(token);
+            // Warm up, and for h2c let the first request upgrade the connection.
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(REQUESTS);
+
+            // When
+            long begin = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                inFlight.acquire();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> inFlight.release()));
+            }
+            int ok = 0;
+            for (CompletableFuture<HttpResponse<Void>> response : responses) {
+                if (response.get().statusCode() == 200) {
+                    ok++;
+                }
+            }
+            long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+
+            // Then
+            System.out.printf("%s: %d gzip listings, %d in flight, in %d ms (%.0f/s)%n",
+                    version, REQUESTS, CONCURRENCY, elapsedMillis, REQUESTS * 1000.0 / elapsedMillis);
+            assertEquals(REQUESTS, ok);
+        }
+    }
+
+    private HttpRequest loginRequest() throws Exception {
+        LoginRequest login = LoginRequest.builder().email("user0@test.com").password("test@123").build();
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/users/login"))
+                .header("Content-Type", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(login)))
+                .build();
+    }
+
+    private HttpRequest listingRequest(String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/users?limit=" + USERS))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "gzip")
+                .build();
+    }
+}
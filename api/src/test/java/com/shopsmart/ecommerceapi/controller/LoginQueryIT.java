@@ -0,0 +1,102 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.model.RefreshToken;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+public class LoginQueryIT {
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.update(
+                "INSERT INTO users (id, first_name, last_name, email, phone_number, password) VALUES (nextval('users_seq'), 'test', 'test', 'test@test.com', '+212600000000', ?)",
+                passwordHasher.encode("test@123")
+        );
+        jdbcTemplate.update(
+                "INSERT INTO users_roles (users_id, roles_id) SELECT u.id, r.id FROM users u, roles r WHERE u.email = 'test@test.com' AND r.name = 'customer'"
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenExistingUser_whenLoginCustomer_thenSelectCredentialsAndInsertRefreshToken() {
+
+        // Given
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("test@test.com")
+                .password("test@123")
+                .build();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        ResponseEntity<AuthResponse> response = restTemplate.postForEntity(
+                "/api/v1/users/login",
+                loginRequest,
+                AuthResponse.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityStatistics(RefreshToken.class.getName()).getInsertCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+}
@@ -0,0 +1,138 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.shopsmart.ecommerceapi.config.VirtualThreads;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares login throughput and thread count between the platform-thread and the virtual-thread
+ * modes. Run once per mode and compare the printed lines:
+ * <pre>
+ * mvn test -Dtest=LoginThroughputIT
+ * mvn test -Dtest=LoginThroughputIT -Dthreads.virtual.enabled=true
+ * </pre>
+ */
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "security.password.bcrypt-strength=4",
+                "security.password.queue-capacity=4096",
+                "security.password.timeout=60s",
+                "spring.datasource.hikari.maximum-pool-size=10"
+        }
+)
+public class LoginThroughputIT {
+
+    private static final int CLIENTS = Integer.getInteger("login.clients", 400);
+    private static final int LOGINS = Integer.getInteger("login.requests", 10_000);
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @Value("${threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(!virtualThreads || VirtualThreads.isSupported(), "Virtual threads need JDK 21");
+        jdbcTemplate.update(
+                "INSERT INTO users (first_name, last_name, email, phone_number, password) VALUES ('test', 'test', 'test@test.com', '+212600000000', ?)",
+                passwordHasher.encode("test@123")
+        );
+        jdbcTemplate.update(
+                "INSERT INTO users_roles (users_id, roles_id) SELECT u.id, r.id FROM users u, roles r WHERE u.email = 'test@test.com' AND r.name = 'customer'"
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenConcurrentClients_whenLoginRepeatedly_thenReportThroughputAndThreads() throws Exception {
+
+        // Given
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("test@test.com")
+                .password("test@123")
+                .build();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatus>> responses = new ArrayList<>(LOGINS);
+        for (int i = 0; i < LOGINS; i++) {
+            responses.add(clients.submit(() -> {
+                start.await();
+                return HttpStatus.valueOf(restTemplate.postForEntity("/api/v1/users/login", loginRequest, String.class)
+                        .getStatusCode().value());
+            }));
+        }
+
+        // When
+        long begin = System.nanoTime();
+        start.countDown();
+        int ok = 0;
+        for (Future<HttpStatus> response : responses) {
+            if (response.get() == HttpStatus.OK) {
+                ok++;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+        clients.shutdown();
+
+        // Then
+        System.out.printf("%s threads: %d logins in %d ms (%.0f/s), peak platform threads %d (%d of them clients)%n",
+                virtualThreads ? "virtual" : "platform", LOGINS, elapsedMillis, LOGINS * 1000.0 / elapsedMillis,
+                threads.getPeakThreadCount(), CLIENTS);
+        assertEquals(LOGINS, ok);
+    }
+}
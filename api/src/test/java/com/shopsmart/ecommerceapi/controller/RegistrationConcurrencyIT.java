@@ -0,0 +1,104 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                // Every request must reach the insert; none may be shed by the hashing pool.
+                "security.password.bcrypt-strength=4",
+                "security.password.queue-capacity=1000",
+                "security.password.timeout=60s"
+        }
+)
+public class RegistrationConcurrencyIT {
+
+    private static final int REQUESTS = 1_000;
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenParallelDuplicateRegistrations_whenRegister_thenExactlyOneIsCreated() throws Exception {
+
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json");
+        ExecutorService executor = Executors.newFixedThreadPool(200);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            // Vary the case: the unique index is on lower(email).
+            String email = i % 2 == 0 ? "race@test.com" : "RACE@test.com";
+            String body = "{\"firstName\":\"test\",\"lastName\":\"test\",\"email\":\"" + email
+                    + "\",\"phoneNumber\":\"+212600000000\",\"password\":\"test@123\"}";
+            responses.add(executor.submit(() -> {
+                start.await();
+                return restTemplate.postForEntity("/api/v1/users/register", new HttpEntity<>(body, headers), String.class)
+                        .getStatusCode();
+            }));
+        }
+
+        // When
+        start.countDown();
+        List<HttpStatusCode> statuses = new ArrayList<>(REQUESTS);
+        for (Future<HttpStatusCode> response : responses) {
+            statuses.add(response.get());
+        }
+        executor.shutdown();
+
+        // Then
+        Map<Integer, Long> byStatus = statuses.stream()
+                .collect(Collectors.groupingBy(HttpStatusCode::value, Collectors.counting()));
+        assertEquals(Map.of(201, 1L, 409, (long) REQUESTS - 1), byStatus);
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from users", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from users_roles", Integer.class));
+    }
+}
@@ -0,0 +1,141 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.RefreshTokenRequest;
+import com.shopsmart.ecommerceapi.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class TokenRefreshIT {
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    public void setUp() {
+        // WebTestClient, unlike TestRestTemplate's default client, reads 401 responses to POSTs.
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+    }
+
+    @Test
+    @Sql(statements = "delete from users", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void givenRefreshToken_whenRefresh_thenRotateAndKeepAccessTokenUsable() {
+        // Given
+        AuthResponse registered = register("rotate@test.com");
+
+        // When
+        ResponseEntity<AuthResponse> response = refresh(registered.getRefreshToken());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        AuthResponse refreshed = response.getBody();
+        assertNotNull(refreshed.getToken());
+        assertNotEquals(registered.getRefreshToken(), refreshed.getRefreshToken());
+        // Customers are authenticated but not allowed to list users: 403, not 401.
+        assertEquals(HttpStatus.FORBIDDEN, listUsers(refreshed.getToken()));
+    }
+
+    @Test
+    @Sql(statements = "delete from users", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void givenUsedRefreshToken_whenRefreshAgain_thenRevokeWholeFamily() {
+        // Given
+        AuthResponse registered = register("reuse@test.com");
+        AuthResponse refreshed = refresh(registered.getRefreshToken()).getBody();
+
+        // When
+        ResponseEntity<AuthResponse> replay = refresh(registered.getRefreshToken());
+
+        // Then
+        assertEquals(HttpStatus.UNAUTHORIZED, replay.getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, refresh(refreshed.getRefreshToken()).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, listUsers(refreshed.getToken()));
+        assertEquals(HttpStatus.UNAUTHORIZED, listUsers(registered.getToken()));
+    }
+
+    @Test
+    @Sql(statements = "delete from users", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void givenRefreshToken_whenRevoke_thenRefreshAndAccessTokensAreRejected() {
+        // Given
+        AuthResponse registered = register("logout@test.com");
+
+        // When
+        HttpStatusCode status = client.post().uri("/api/v1/users/token/revoke")
+                .bodyValue(RefreshTokenRequest.builder().refreshToken(registered.getRefreshToken()).build())
+                .exchange()
+                .returnResult(Void.class)
+                .getStatus();
+
+        // Then
+        assertEquals(HttpStatus.NO_CONTENT, status);
+        assertEquals(HttpStatus.UNAUTHORIZED, refresh(registered.getRefreshToken()).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, listUsers(registered.getToken()));
+    }
+
+    private AuthResponse register(String email) {
+        User user = User.builder()
+                .firstName("test")
+                .lastName("test")
+                .email(email)
+                .phoneNumber("+212600000000")
+                .password("test@123")
+                .build();
+        return client.post().uri("/api/v1/users/register")
+                .bodyValue(user)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(AuthResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private ResponseEntity<AuthResponse> refresh(String refreshToken) {
+        EntityExchangeResult<AuthResponse> result = client.post().uri("/api/v1/users/token/refresh")
+                .bodyValue(RefreshTokenRequest.builder().refreshToken(refreshToken).build())
+                .exchange()
+                .expectBody(AuthResponse.class)
+                .returnResult();
+        return ResponseEntity.status(result.getStatus()).body(result.getResponseBody());
+    }
+
+    private HttpStatusCode listUsers(String accessToken) {
+        return client.get().uri("/api/v1/users")
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .exchange()
+                .returnResult(String.class)
+                .getStatus();
+    }
+}
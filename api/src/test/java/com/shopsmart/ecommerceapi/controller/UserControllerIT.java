@@ -570,7 +570,7 @@ public class UserControllerIT {
     }
 
     @Test
-    @Sql(statements = "INSERT INTO users (first_name, last_name, email, phone_number, password) VALUES ('test', 'test', 'test@test.com', '+212600000000', 'test@12')", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(statements = "INSERT INTO users (id, first_name, last_name, email, phone_number, password) VALUES (nextval('users_seq'), 'test', 'test', 'test@test.com', '+212600000000', 'test@12')", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     @Sql(statements = "delete from users", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     public void givenUserWithAlreadyInUseEmail_whenRegisterCustomer_thenReturn409AndMessage() throws JsonProcessingException {
         User user = User.builder()
@@ -605,7 +605,7 @@ public class UserControllerIT {
     }
 
     @Test
-    @Sql(statements = "INSERT INTO users (first_name, last_name, email, phone_number, password) VALUES ('test', 'test', 'test@test.com', '+212600000000', 'test@123')", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(statements = "INSERT INTO users (id, first_name, last_name, email, phone_number, password) VALUES (nextval('users_seq'), 'test', 'test', 'test@test.com', '+212600000000', 'test@123')", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     @Sql(statements = "delete from users", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     public void givenExistingUserEmailAndPassword_whenLoginCustomer_thenReturn200AndToken() throws JsonProcessingException {
 
@@ -698,7 +698,7 @@ public class UserControllerIT {
     }
 
     @Test
-    @Sql(statements = "INSERT INTO users (first_name, last_name, email, phone_number, password) VALUES ('test', 'test', 'test@test.com', '+212600000000', 'test@12')", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(statements = "INSERT INTO users (id, first_name, last_name, email, phone_number, password) VALUES (nextval('users_seq'), 'test', 'test', 'test@test.com', '+212600000000', 'test@12')", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     @Sql(statements = "delete from users", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     public void givenUserWithWrongPassword_whenLoginCustomer_thenReturn400AndMessage() throws JsonProcessingException {
 
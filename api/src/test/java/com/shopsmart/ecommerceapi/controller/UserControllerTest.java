@@ -3,7 +3,7 @@ package com.shopsmart.ecommerceapi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shopsmart.ecommerceapi.dto.AuthResponse;
 import com.shopsmart.ecommerceapi.dto.LoginRequest;
-import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.dto.RegisterRequest;
 import com.shopsmart.ecommerceapi.service.UserService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,7 +35,7 @@ public class UserControllerTest {
     public void givenValidUser_whenRegisterCustomer_thenReturn201AndToken() throws Exception {
 
         // Given
-        User requestBody = User
+        RegisterRequest requestBody = RegisterRequest
                 .builder()
                         .firstName("test")
                                 .lastName("test")
@@ -0,0 +1,122 @@
+package com.shopsmart.ecommerceapi.controller;
+
+import com.shopsmart.ecommerceapi.dto.UserPage;
+import com.shopsmart.ecommerceapi.dto.UserSummary;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class UserListingIT {
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JWTUtils jwtUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenUsersSharingCreatedAt_whenPageThroughListing_thenReturnEveryUserOnce() {
+
+        // Given
+        jdbcTemplate.update(
+                "insert into users (id, first_name, last_name, email, phone_number, password, created_at) " +
+                "select nextval('users_seq'), 'test', 'test', 'user' || i || '@test.com', '+212600000000', 'secret', " +
+                "timestamp '2024-01-01 00:00:00' + (i / 10) * interval '1 microsecond' " +
+                "from generate_series(1, 250) i"
+        );
+        jdbcTemplate.update("insert into users_roles (users_id, roles_id) select u.id, r.id from users u, roles r where r.name = 'customer'");
+
+        // When
+        Set<Long> seen = new HashSet<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            UserPage page = get("/api/v1/users?limit=20" + (cursor == null ? "" : "&cursor=" + cursor)).getBody();
+            for (UserSummary user : page.getItems()) {
+                assertTrue(seen.add(user.getId()));
+                assertEquals(List.of("customer"), user.getRoles());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertEquals(250, seen.size());
+        assertEquals(13, pages);
+    }
+
+    @Test
+    public void givenEmailPrefixWithWildcard_whenListUsers_thenMatchLiterally() {
+
+        // Given
+        jdbcTemplate.update(
+                "insert into users (id, first_name, last_name, email, phone_number, password, created_at) values " +
+                "(nextval('users_seq'), 'test', 'test', 'a_b@test.com', '+212600000000', 'secret', now()), " +
+                "(nextval('users_seq'), 'test', 'test', 'axb@test.com', '+212600000000', 'secret', now())"
+        );
+
+        // When
+        ResponseEntity<UserPage> response = get("/api/v1/users?emailPrefix=a_");
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getItems().size());
+        assertEquals("a_b@test.com", response.getBody().getItems().get(0).getEmail());
+    }
+
+    private ResponseEntity<UserPage> get(String url) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtUtils.generateToken(User.builder()
+                .email("admin@test.com")
+                .roles(new HashSet<>(Set.of(new Role(2, "admin"))))
+                .build()));
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), UserPage.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AuthJsonModuleTest {
+
+    private final ObjectMapper defaultMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final ObjectMapper underTest = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .registerModule(new BlackbirdModule())
+            .registerModule(new AuthJsonModule());
+
+    @Test
+    public void givenAuthResponses_whenSerialize_thenWriteSameJsonAsBeanSerializer() throws Exception {
+        // Given
+        List<AuthResponse> responses = List.of(
+                AuthResponse.builder().token("a.b.c").refreshToken("r\"1\\").expiresIn(900L).build(),
+                AuthResponse.builder().token("a.b.c").build(),
+                new AuthResponse()
+        );
+
+        // When
+        // Then
+        for (AuthResponse response : responses) {
+            assertEquals(defaultMapper.writeValueAsString(response), underTest.writeValueAsString(response));
+            assertEquals(response, defaultMapper.readValue(underTest.writeValueAsBytes(response), AuthResponse.class));
+        }
+    }
+
+    @Test
+    public void givenLoginPayloads_whenDeserialize_thenReadSameRequestAsBeanDeserializer() throws Exception {
+        // Given
+        List<String> payloads = List.of(
+                "{\"email\":\"test@test.com\",\"password\":\"test@123\"}",
+                "{\"password\":\"p\",\"role\":{\"name\":[\"admin\"]},\"email\":\"a\\u0040b.c\"}",
+                "{\"email\":null,\"password\":12345678}",
+                "{}"
+        );
+
+        // When
+        // Then
+        for (String payload : payloads) {
+            assertEquals(defaultMapper.readValue(payload, LoginRequest.class), underTest.readValue(payload, LoginRequest.class));
+        }
+        assertEquals(
+                defaultMapper.readValue("{\"refreshToken\":\"r1\",\"x\":1}", RefreshTokenRequest.class),
+                underTest.readValue("{\"refreshToken\":\"r1\",\"x\":1}", RefreshTokenRequest.class)
+        );
+    }
+
+    @Test
+    public void givenMalformedPayloads_whenDeserialize_thenThrowLikeBeanDeserializer() {
+        // Given
+        ObjectMapper strictMapper = new ObjectMapper().registerModule(new AuthJsonModule());
+
+        // When
+        // Then
+        assertThrows(MismatchedInputException.class, () -> underTest.readValue("{\"email\":{\"a\":1}}", LoginRequest.class));
+        assertThrows(MismatchedInputException.class, () -> underTest.readValue("[\"test@test.com\"]", LoginRequest.class));
+        assertThrows(MismatchedInputException.class, () -> underTest.readValue("\"token\"", RefreshTokenRequest.class));
+        assertThrows(UnrecognizedPropertyException.class, () -> strictMapper.readValue("{\"role\":\"admin\"}", LoginRequest.class));
+    }
+}
@@ -0,0 +1,24 @@
+package com.shopsmart.ecommerceapi.dto;
+
+import com.shopsmart.ecommerceapi.exception.InvalidRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DataFormatTest {
+
+    @Test
+    public void givenFormatNameInAnyCase_whenFromName_thenReturnFormat() {
+        // When & Then
+        assertEquals(DataFormat.CSV, DataFormat.fromName("CSV"));
+        assertEquals(DataFormat.NDJSON, DataFormat.fromName("ndjson"));
+    }
+
+    @Test
+    public void givenUnknownFormatName_whenFromName_thenThrowInvalidRequestListingFormats() {
+        // When & Then
+        InvalidRequest exception = assertThrows(InvalidRequest.class, () -> DataFormat.fromName("xml"));
+        assertEquals("Unsupported format 'xml', expected one of: ndjson, csv", exception.getMessage());
+    }
+}
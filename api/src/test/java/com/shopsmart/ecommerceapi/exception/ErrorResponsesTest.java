@@ -0,0 +1,94 @@
+package com.shopsmart.ecommerceapi.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ErrorResponsesTest {
+
+    @Test
+    public void givenEpochMillisMapper_whenBody_thenMatchSerializedApiException() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+        ErrorResponses underTest = new ErrorResponses(objectMapper);
+
+        // When
+        underTest.body(HttpStatus.BAD_REQUEST, "Email is not linked to any account", "email");
+        byte[] body = underTest.body(HttpStatus.BAD_REQUEST, "Email is not linked to any account", "email");
+
+        // Then
+        assertArrayEquals(serialized(objectMapper, body, HttpStatus.BAD_REQUEST, "Email is not linked to any account", "email"), body);
+    }
+
+    @Test
+    public void givenIsoDateMapperAndEscapedMessage_whenBody_thenMatchSerializedApiException() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ErrorResponses underTest = new ErrorResponses(objectMapper);
+        String message = "Name must not contain \"quotes\" or é";
+
+        // When
+        byte[] body = underTest.body(HttpStatus.CONFLICT, message, null);
+
+        // Then
+        assertArrayEquals(serialized(objectMapper, body, HttpStatus.CONFLICT, message, null), body);
+    }
+
+    @Test
+    public void givenSeveralFieldErrors_whenHandleValidation_thenReportFirstOnly() throws Exception {
+        // Given
+        ApiExceptionHandler underTest = new ApiExceptionHandler(new ErrorResponses(new ObjectMapper()), new ApiMetrics(new SimpleMeterRegistry()));
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "user");
+        bindingResult.addError(new FieldError("user", "email", "Email is required"));
+        bindingResult.addError(new FieldError("user", "password", "Password is required"));
+
+        // When
+        ResponseEntity<byte[]> response = underTest.handleMethodArgumentNotValidException(
+                new MethodArgumentNotValidException((MethodParameter) null, bindingResult)
+        );
+
+        // Then
+        JsonNode body = new ObjectMapper().readTree(response.getBody());
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("Email is required", body.get("message").asText());
+        assertEquals("BAD_REQUEST", body.get("httpStatus").asText());
+    }
+
+    @Test
+    public void givenClientErrorExceptions_whenCreated_thenHaveNoStackTrace() {
+        // Given
+        // When
+        // Then
+        assertEquals(0, new ResourceAlreadyExists("Email is already in use").getStackTrace().length);
+        assertEquals(0, new ResourceDoesNotExist("Email is not linked to any account", "email").getStackTrace().length);
+        assertEquals(0, new InvalidRequest("Invalid cursor").getStackTrace().length);
+    }
+
+    // What Jackson writes for the same ApiException, with the timestamp the body was given.
+    private static byte[] serialized(ObjectMapper objectMapper, byte[] body, HttpStatus status, String message, String field) throws Exception {
+        Date timestamp = objectMapper.treeToValue(objectMapper.readTree(body).get("timestamp"), Date.class);
+        return objectMapper.writeValueAsBytes(ApiException
+                .builder()
+                .message(message)
+                .timestamp(timestamp)
+                .httpStatus(status)
+                .field(field)
+                .build());
+    }
+}
@@ -0,0 +1,68 @@
+package com.shopsmart.ecommerceapi.load;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the connection pool during a load run. A pool is saturated while requests wait for a
+ * connection; the share of samples with waiting requests tells whether the pool or the CPU limits
+ * throughput, which is what pod and pool sizes are chosen by.
+ */
+public class HikariPoolSampler implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+    private final HikariPoolMXBean pool;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private long samples;
+    private long saturatedSamples;
+    private long activeSum;
+    private int maxActive;
+    private int maxWaiting;
+
+    /**
+     * @param delay until the first sample, to leave out the warm-up
+     */
+    public HikariPoolSampler(DataSource dataSource, Duration interval, Duration delay) throws SQLException {
+        // The data source may be wrapped, by the SQL monitoring proxy for one.
+        this.dataSource = dataSource.unwrap(HikariDataSource.class);
+        this.pool = this.dataSource.getHikariPoolMXBean();
+        scheduler.scheduleAtFixedRate(this::sample, delay.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        int active = pool.getActiveConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+        samples++;
+        activeSum += active;
+        maxActive = Math.max(maxActive, active);
+        maxWaiting = Math.max(maxWaiting, waiting);
+        if (waiting > 0) {
+            saturatedSamples++;
+        }
+    }
+
+    public synchronized double saturation() {
+        return samples == 0 ? 0 : (double) saturatedSamples / samples;
+    }
+
+    public synchronized String report() {
+        return String.format(Locale.ROOT,
+                "DB pool: max size %d, active mean %.1f max %d, waiting max %d, saturated in %.1f%% of %d samples%n",
+                dataSource.getMaximumPoolSize(), samples == 0 ? 0 : (double) activeSum / samples, maxActive,
+                maxWaiting, saturation() * 100, samples);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,183 @@
+package com.shopsmart.ecommerceapi.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends a weighted mix of requests from this JVM, under the open or the closed model of
+ * {@link LoadSettings}, and records them in a {@link LoadResult}.
+ * <p>
+ * Every request has an intended start time: the fixed-rate schedule in the open model, the pacing
+ * schedule of its client in the paced closed model. Latency is measured from it. An unpaced
+ * closed client intends each request for when it gets to send it, so there is nothing to correct.
+ */
+public class LoadGenerator<O extends Enum<O>> {
+
+    /**
+     * Builds the requests of one operation and judges their responses.
+     */
+    public interface Scenario<O> {
+
+        /**
+         * @param sequence unique per request of the run, for unique payloads
+         */
+        HttpRequest request(O operation, long sequence);
+
+        /**
+         * @return null if the response is what {@code operation} should get, or a short,
+         * low-cardinality description of what went wrong
+         */
+        String check(O operation, HttpResponse<?> response);
+    }
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadSettings<O> settings;
+    private final Scenario<O> scenario;
+    private final HttpClient client;
+    private final List<O> weighted;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LoadGenerator(LoadSettings<O> settings, Scenario<O> scenario, HttpClient client) {
+        this.settings = settings;
+        this.scenario = scenario;
+        this.client = client;
+        this.weighted = weighted(settings.mix());
+    }
+
+    /**
+     * Runs the warm-up and the measured period, and waits for the requests still in flight.
+     */
+    public LoadResult<O> run(Class<O> operations) throws InterruptedException {
+        LoadResult<O> result = new LoadResult<>(operations);
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        if (settings.model() == LoadSettings.Model.OPEN) {
+            runOpen(result, start, measureFrom, end);
+        } else {
+            runClosed(result, start, measureFrom, end);
+        }
+        return result;
+    }
+
+    private void runOpen(LoadResult<O> result, long start, long measureFrom, long end) throws InterruptedException {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        SplittableRandom random = new SplittableRandom();
+        AtomicInteger outstanding = new AtomicInteger();
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            parkUntil(intended);
+            O operation = weighted.get(random.nextInt(weighted.size()));
+            boolean measured = intended >= measureFrom;
+            if (outstanding.get() >= settings.maxOutstanding()) {
+                if (measured) {
+                    result.recordNotSent(operation);
+                }
+                continue;
+            }
+            outstanding.incrementAndGet();
+            long sent = System.nanoTime();
+            client.sendAsync(scenario.request(operation, sequence.getAndIncrement()), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long completed = System.nanoTime();
+                        outstanding.decrementAndGet();
+                        if (measured) {
+                            result.record(operation, intended, sent, completed, failure != null ? failure(failure) : scenario.check(operation, response));
+                        }
+                    });
+        }
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void runClosed(LoadResult<O> result, long start, long measureFrom, long end) throws InterruptedException {
+        int clients = settings.concurrency();
+        long intervalNanos = settings.rate() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * clients / settings.rate()) : 0;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<?>> futures = new ArrayList<>(clients);
+        for (int c = 0; c < clients; c++) {
+            // Paced clients are staggered over one interval rather than all starting at once.
+            long clientStart = start + intervalNanos * c / clients;
+            futures.add(executor.submit(() -> {
+                SplittableRandom random = new SplittableRandom();
+                for (long k = 0; ; k++) {
+                    long intended = intervalNanos > 0 ? clientStart + k * intervalNanos : System.nanoTime();
+                    if (intended >= end || System.nanoTime() >= end) {
+                        return null;
+                    }
+                    parkUntil(intended);
+                    O operation = weighted.get(random.nextInt(weighted.size()));
+                    long sent = System.nanoTime();
+                    String error;
+                    try {
+                        error = scenario.check(operation, client.send(
+                                scenario.request(operation, sequence.getAndIncrement()),
+                                HttpResponse.BodyHandlers.discarding()
+                        ));
+                    } catch (IOException e) {
+                        error = failure(e);
+                    }
+                    if (intended >= measureFrom) {
+                        result.record(operation, intended, sent, System.nanoTime(), error);
+                    }
+                }
+            }));
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(settings.warmup().plus(settings.duration()).plus(DRAIN_TIMEOUT).toSeconds(), TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        for (Future<?> future : futures) {
+            if (future.isDone() && !future.isCancelled()) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Load client failed", e.getCause());
+                }
+            }
+        }
+    }
+
+    private static void parkUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static String failure(Throwable failure) {
+        Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+        return cause.getClass().getSimpleName();
+    }
+
+    private static <O extends Enum<O>> List<O> weighted(Map<O, Integer> mix) {
+        List<O> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        return List.copyOf(weighted);
+    }
+}
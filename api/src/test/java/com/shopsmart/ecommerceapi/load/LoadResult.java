@@ -0,0 +1,126 @@
+package com.shopsmart.ecommerceapi.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and errors of a load run, per operation.
+ * <p>
+ * Latency is measured from when a request was meant to be sent, not from when it was: if the
+ * generator or the client fell behind, the wait counts against the server, as it would for a real
+ * user. This is the coordinated omission correction; without it a stalled server holds back the
+ * requests that would have measured the stall. The time from actually sending to the response,
+ * the service time, is kept alongside for comparison.
+ */
+public class LoadResult<O extends Enum<O>> {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<O, Stats> stats;
+
+    public LoadResult(Class<O> operations) {
+        this.stats = new EnumMap<>(operations);
+        for (O operation : operations.getEnumConstants()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    void record(O operation, long intendedNanos, long sentNanos, long completedNanos, String error) {
+        Stats operationStats = stats.get(operation);
+        operationStats.latency.recordValue(micros(completedNanos - intendedNanos));
+        operationStats.serviceTime.recordValue(micros(completedNanos - sentNanos));
+        operationStats.count.increment();
+        if (error != null) {
+            operationStats.errors.computeIfAbsent(error, e -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * A request the generator did not send because too many were outstanding. It has no latency
+     * but counts as an error: the server was not keeping up.
+     */
+    void recordNotSent(O operation) {
+        Stats operationStats = stats.get(operation);
+        operationStats.count.increment();
+        operationStats.errors.computeIfAbsent("not sent", e -> new LongAdder()).increment();
+    }
+
+    public long count() {
+        return stats.values().stream().mapToLong(s -> s.count.sum()).sum();
+    }
+
+    public long errors() {
+        return stats.values().stream().mapToLong(Stats::errorCount).sum();
+    }
+
+    public double errorRate() {
+        long count = count();
+        return count == 0 ? 0 : (double) errors() / count;
+    }
+
+    public Histogram latency(O operation) {
+        return stats.get(operation).latency;
+    }
+
+    public String report(LoadSettings<O> settings, Duration elapsed) {
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "Load: %s%n", settings));
+        report.append(String.format(Locale.ROOT, "%-16s %8s %9s %8s %9s %9s %9s %9s %9s %10s%n",
+                "operation", "count", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99"));
+        Histogram allLatencies = new Histogram(MAX_LATENCY_MICROS, 3);
+        Histogram allServiceTimes = new Histogram(MAX_LATENCY_MICROS, 3);
+        Map<String, Long> errorsByKind = new TreeMap<>();
+        stats.forEach((operation, s) -> {
+            if (s.count.sum() == 0) {
+                return;
+            }
+            report.append(line(operation.name().toLowerCase(Locale.ROOT), s.count.sum(), s.errorCount(), s.latency, s.serviceTime, elapsed));
+            allLatencies.add(s.latency);
+            allServiceTimes.add(s.serviceTime);
+            s.errors.forEach((kind, count) -> errorsByKind.merge(operation.name().toLowerCase(Locale.ROOT) + " " + kind, count.sum(), Long::sum));
+        });
+        report.append(line("total", count(), errors(), allLatencies, allServiceTimes, elapsed));
+        report.append(String.format(Locale.ROOT, "Error rate %.3f%%%s%n", errorRate() * 100, errorsByKind.isEmpty() ? "" : ": " + errorsByKind));
+        return report.toString();
+    }
+
+    private static String line(String name, long count, long errors, Histogram latency, Histogram serviceTime, Duration elapsed) {
+        return String.format(Locale.ROOT, "%-16s %8d %9.1f %8d %9.1f %9.1f %9.1f %9.1f %9.1f %10.1f%n",
+                name, count, count * 1000.0 / elapsed.toMillis(), errors,
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(95)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()),
+                millis(serviceTime.getValueAtPercentile(99)));
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(Math.max(nanos / 1000, 0), MAX_LATENCY_MICROS);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Stats {
+
+        private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder count = new LongAdder();
+        private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+}
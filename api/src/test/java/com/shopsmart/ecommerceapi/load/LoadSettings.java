@@ -0,0 +1,83 @@
+package com.shopsmart.ecommerceapi.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * What a load run sends, read from {@code load.*} system properties so that the same suite can be
+ * sized from the command line:
+ * <ul>
+ *     <li>{@code load.model}: {@code open} (default) starts requests at a fixed rate whether or
+ *     not earlier ones have completed, as independent users do; {@code closed} runs a fixed number
+ *     of clients that each wait for their response before sending the next request.</li>
+ *     <li>{@code load.rate}: requests per second, in total. Required for the open model; in the
+ *     closed model it paces the clients, and 0 lets each send as fast as it is answered.</li>
+ *     <li>{@code load.concurrency}: clients of the closed model.</li>
+ *     <li>{@code load.duration}, {@code load.warmup}: measured time, and time run before it whose
+ *     requests are not recorded, as {@link Duration} strings ({@code PT60S}) or seconds.</li>
+ *     <li>{@code load.mix}: relative weights per operation, such as
+ *     {@code register=10,login=70}.</li>
+ *     <li>{@code load.max-outstanding}: requests of the open model in flight at most; one that
+ *     would exceed it is not sent and counts as an error.</li>
+ * </ul>
+ */
+public record LoadSettings<O extends Enum<O>>(
+        Model model,
+        double rate,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Map<O, Integer> mix,
+        int maxOutstanding
+) {
+
+    public enum Model { OPEN, CLOSED }
+
+    public static <O extends Enum<O>> LoadSettings<O> fromSystemProperties(Class<O> operations, String defaultMix) {
+        Model model = Model.valueOf(System.getProperty("load.model", "open").toUpperCase(Locale.ROOT));
+        double rate = Double.parseDouble(System.getProperty("load.rate", "100"));
+        if (model == Model.OPEN && rate <= 0) {
+            throw new IllegalArgumentException("load.rate must be positive for the open model");
+        }
+        return new LoadSettings<>(
+                model,
+                rate,
+                Integer.getInteger("load.concurrency", 32),
+                duration(System.getProperty("load.duration", "30")),
+                duration(System.getProperty("load.warmup", "5")),
+                mix(operations, System.getProperty("load.mix", defaultMix)),
+                Integer.getInteger("load.max-outstanding", 10_000)
+        );
+    }
+
+    @Override
+    public String toString() {
+        String load = model == Model.OPEN
+                ? String.format(Locale.ROOT, "open model at %.0f req/s", rate)
+                : String.format(Locale.ROOT, "closed model, %d clients%s", concurrency,
+                        rate > 0 ? String.format(Locale.ROOT, " paced to %.0f req/s", rate) : ", unpaced");
+        return String.format(Locale.ROOT, "%s for %ds after %ds of warm-up, mix %s",
+                load, duration.toSeconds(), warmup.toSeconds(), mix);
+    }
+
+    private static Duration duration(String value) {
+        return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static <O extends Enum<O>> Map<O, Integer> mix(Class<O> operations, String spec) {
+        Map<O, Integer> mix = new EnumMap<>(operations);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Enum.valueOf(operations, parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no operation with a positive weight: " + spec);
+        }
+        return mix;
+    }
+}
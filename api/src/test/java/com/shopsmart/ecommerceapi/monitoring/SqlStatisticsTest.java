@@ -0,0 +1,146 @@
+package com.shopsmart.ecommerceapi.monitoring;
+
+import com.shopsmart.ecommerceapi.config.SqlMonitoringProperties;
+import com.shopsmart.ecommerceapi.dto.NPlusOneFinding;
+import com.shopsmart.ecommerceapi.dto.SqlStatementStats;
+import com.shopsmart.ecommerceapi.dto.SqlStatsReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlStatisticsTest {
+
+    private final SqlStatistics underTest = new SqlStatistics(properties(3));
+
+    @Test
+    public void givenStatementsDifferingInLiteralsAndLayout_whenNormalize_thenShareOneShape() {
+        // Given
+        String hibernate = "select\n        u1_0.id,\n        u1_0.email \n    from\n        users u1_0 \n    where\n        u1_0.id in (?, ?, ?)";
+        String literal = "select u1_0.id, u1_0.email from users u1_0 where u1_0.id in (12, 7)";
+
+        // When
+        // Then
+        assertEquals("select u1_0.id, u1_0.email from users u1_0 where u1_0.id in (?)", underTest.normalize(hibernate));
+        assertEquals(underTest.normalize(hibernate), underTest.normalize(literal));
+        assertEquals("select * from users where email = ? and name = ?",
+                underTest.normalize("select * from users where email = 'o''brien@test.com' and name = 'x'"));
+    }
+
+    @Test
+    public void givenExecutions_whenReport_thenOrderByTotalTimeWithPercentilesAndSlowCount() {
+        // Given
+        for (int i = 1; i <= 100; i++) {
+            underTest.record("select a", TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        underTest.record("select b", TimeUnit.MILLISECONDS.toNanos(1));
+
+        // When
+        SqlStatsReport report = underTest.report();
+
+        // Then
+        SqlStatementStats stats = report.getStatements().get(0);
+        assertEquals("select a", stats.getSql());
+        assertEquals(100, stats.getCount());
+        assertEquals(51, stats.getSlowCount());
+        assertEquals(5050, stats.getTotalMillis(), 0.001);
+        assertEquals(100, stats.getMaxMillis(), 0.001);
+        // Buckets are at most 12.5% wide.
+        assertTrue(stats.getP50Millis() >= 50 && stats.getP50Millis() <= 50 * 1.125, "p50 " + stats.getP50Millis());
+        assertTrue(stats.getP99Millis() >= 99 && stats.getP99Millis() <= 100, "p99 " + stats.getP99Millis());
+        assertEquals("select b", report.getStatements().get(1).getSql());
+    }
+
+    @Test
+    public void givenMoreStatementsThanTracked_whenRecord_thenCountTheRestTogether() {
+        // Given
+        SqlStatistics statistics = new SqlStatistics(properties(3));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            statistics.record("select " + i, 1_000);
+        }
+
+        // Then
+        assertEquals(4, statistics.report().getStatements().size());
+        assertEquals(2, statistics.report().getStatements().stream()
+                .filter(stats -> stats.getSql().equals(SqlStatistics.OTHER_STATEMENTS))
+                .findFirst().orElseThrow().getCount());
+    }
+
+    @Test
+    public void givenRequestsRepeatingSelect_whenFilterCompletes_thenReportNPlusOnePerEndpoint() throws Exception {
+        // Given
+        SqlRequestTrackingFilter filter = new SqlRequestTrackingFilter(underTest, 3);
+
+        // When
+        runUserRequest(filter, "/api/v1/users/42", 4);
+        runUserRequest(filter, "/api/v1/users/43", 3);
+        runUserRequest(filter, "/api/v1/users/44", 2);
+
+        // Then
+        assertEquals(1, underTest.report().getNPlusOne().size());
+        NPlusOneFinding finding = underTest.report().getNPlusOne().get(0);
+        assertEquals("GET /api/v1/users/{id}", finding.getEndpoint());
+        assertEquals("select * from roles where user_id = ?", finding.getSql());
+        assertEquals(2, finding.getRequests());
+        assertEquals(4, finding.getMaxExecutionsPerRequest());
+        assertFalse(underTest.recordNPlusOne(finding.getEndpoint(), finding.getSql(), 5));
+    }
+
+    @Test
+    public void givenBulkInsertFetchingSequenceBlocks_whenFilterCompletes_thenReportNothing() throws Exception {
+        // Given
+        SqlRequestTrackingFilter filter = new SqlRequestTrackingFilter(underTest, 3);
+        String sequenceFetch = underTest.normalize("select nextval('users_seq')");
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/users/import"), new MockHttpServletResponse(), (request, response) -> {
+            for (int i = 0; i < 20; i++) {
+                SqlRequestTrackingFilter.onStatement(sequenceFetch);
+            }
+        });
+
+        // Then
+        assertTrue(underTest.report().getNPlusOne().isEmpty());
+    }
+
+    @Test
+    public void givenRecordedStatements_whenReset_thenStartEmpty() {
+        // Given
+        underTest.record("select a", 1_000);
+        underTest.recordNPlusOne("GET /", "select a", 5);
+
+        // When
+        underTest.reset();
+
+        // Then
+        assertTrue(underTest.report().getStatements().isEmpty());
+        assertTrue(underTest.report().getNPlusOne().isEmpty());
+    }
+
+    private static void runUserRequest(SqlRequestTrackingFilter filter, String uri, int roleQueries) throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", uri), new MockHttpServletResponse(), (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/{id}");
+            SqlRequestTrackingFilter.onStatement("select * from users where id = ?");
+            for (int i = 0; i < roleQueries; i++) {
+                SqlRequestTrackingFilter.onStatement("select * from roles where user_id = ?");
+                SqlRequestTrackingFilter.onStatement("update users set password = ? where id = ?");
+            }
+        });
+    }
+
+    private static SqlMonitoringProperties properties(int maxStatements) {
+        SqlMonitoringProperties properties = new SqlMonitoringProperties();
+        properties.setMaxStatements(maxStatements);
+        properties.setSlowThreshold(Duration.ofMillis(50));
+        return properties;
+    }
+}
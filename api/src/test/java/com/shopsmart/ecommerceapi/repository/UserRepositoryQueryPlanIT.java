@@ -0,0 +1,108 @@
+package com.shopsmart.ecommerceapi.repository;
+
+import com.shopsmart.ecommerceapi.dto.UserFilter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Captures the SQL Hibernate generates for the hot queries and checks with {@code EXPLAIN} that
+ * Postgres answers them from the indexes created by the migrations.
+ */
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.shopsmart.ecommerceapi.repository.UserRepositoryQueryPlanIT$LastStatement")
+public class UserRepositoryQueryPlanIT {
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.update(
+                "insert into users (first_name, last_name, email, phone_number, password, created_at) " +
+                "select 'test', 'test', 'user' || i || '@test.com', '+212600000000', 'secret', now() - i * interval '1 second' " +
+                "from generate_series(1, 20000) i"
+        );
+        jdbcTemplate.update("insert into users_roles (users_id, roles_id) select u.id, r.id from users u, roles r where r.name = 'customer'");
+        jdbcTemplate.execute("analyze users");
+        jdbcTemplate.execute("analyze users_roles");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenManyUsers_whenFindCredentialsByEmail_thenUseEmailIndex() {
+
+        // When
+        userRepository.findCredentialsByEmail("User10000@test.com");
+        String plan = explain(LastStatement.sql, "'User10000@test.com'");
+
+        // Then
+        assertTrue(plan.contains("ux_users_email_lower"), plan);
+        assertTrue(plan.contains("users_roles_pkey"), plan);
+        assertFalse(plan.contains("Seq Scan on users"), plan);
+    }
+
+    @Test
+    public void givenManyUsers_whenListFirstPage_thenUseCreatedAtIndex() {
+
+        // When
+        userRepository.findPage(new UserFilter(null, null, null, null), null, 51);
+        String plan = explain(LastStatement.sql, "51");
+
+        // Then
+        assertTrue(plan.contains("idx_users_created_at_id"), plan);
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    private String explain(String sql, String parameter) {
+        List<String> lines = jdbcTemplate.queryForList("explain " + sql.replace("?", parameter), String.class);
+        return String.join("\n", lines);
+    }
+
+    public static class LastStatement implements StatementInspector {
+
+        static volatile String sql;
+
+        @Override
+        public String inspect(String statement) {
+            sql = statement;
+            return statement;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.shopsmart.ecommerceapi.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.exception.ErrorResponses;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.security.revocation.TokenDenylist;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "dGVzdC1zaG9wc21hcnQtc2VjcmV0LWtleS0wMTIzNDU2Nzg5YWJjZGVmMDEyMzQ1";
+
+    private JWTUtils jwtUtils;
+    private VerifiedTokenCache verifiedTokenCache;
+    private TokenDenylist tokenDenylist;
+    private JwtAuthenticationFilter underTest;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        jwtUtils = spy(new JWTUtils(new JwtProperties(), SECRET));
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtils, new JwtProperties(), mock(ObjectProvider.class));
+        tokenDenylist = new TokenDenylist(new JwtProperties());
+        underTest = new JwtAuthenticationFilter(verifiedTokenCache, tokenDenylist, new ErrorResponses(new ObjectMapper()));
+    }
+
+    @Test
+    public void givenValidToken_whenFilterTwice_thenExposePrincipalAndVerifyOnce() throws Exception {
+        // Given
+        User user = User.builder()
+                .id(42L)
+                .email("test@test.com")
+                .roles(new HashSet<>(Set.of(new Role(1, "customer"))))
+                .build();
+        String token = jwtUtils.generateToken(user);
+
+        // When
+        MockHttpServletRequest first = authenticatedRequest(token);
+        MockHttpServletRequest second = authenticatedRequest(token);
+        underTest.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+        underTest.doFilter(second, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        JwtPrincipal principal = (JwtPrincipal) second.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE);
+        assertNotNull(principal);
+        assertEquals("test@test.com", principal.email());
+        assertEquals(42L, principal.userId());
+        assertTrue(principal.hasRole(1));
+        verify(jwtUtils, times(1)).extractPrincipal(token);
+        assertEquals(1, verifiedTokenCache.stats().hitCount());
+    }
+
+    @Test
+    public void givenTamperedToken_whenFilter_thenReturn401AndStopChain() throws Exception {
+        // Given
+        User user = User.builder().email("test@test.com").roles(new HashSet<>()).build();
+        String token = jwtUtils.generateToken(user) + "x";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        underTest.doFilter(authenticatedRequest(token), response, chain);
+
+        // Then
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Invalid or expired token"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    public void givenRevokedToken_whenFilter_thenReturn401AndStopChain() throws Exception {
+        // Given
+        User user = User.builder().email("test@test.com").roles(new HashSet<>()).build();
+        String token = jwtUtils.generateToken(user);
+        underTest.doFilter(authenticatedRequest(token), new MockHttpServletResponse(), new MockFilterChain());
+        JwtPrincipal principal = jwtUtils.extractPrincipal(token);
+        tokenDenylist.revoke(principal.tokenId(), principal.expiresAtMillis());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        underTest.doFilter(authenticatedRequest(token), response, chain);
+
+        // Then
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    public void givenNoAuthorizationHeader_whenFilter_thenPassThroughAnonymously() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users/login");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        underTest.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+        assertNull(request.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE));
+    }
+
+    @Test
+    public void givenExpiredTokenOnTokenEndpoints_whenFilter_thenPassThroughAnonymously() throws Exception {
+        // Given
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessTokenValidity(Duration.ofSeconds(-1));
+        JWTUtils expiringJwtUtils = new JWTUtils(properties, SECRET);
+        String token = expiringJwtUtils.generateToken(User.builder().email("test@test.com").roles(new HashSet<>()).build());
+
+        for (String path : List.of("/api/v1/users/register", "/api/v1/users/login", "/api/v1/users/token/refresh", "/api/v1/users/token/revoke")) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+            request.addHeader("Authorization", "Bearer " + token);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // When
+            underTest.doFilter(request, response, chain);
+
+            // Then
+            assertEquals(200, response.getStatus(), path);
+            assertNotNull(chain.getRequest(), path);
+            assertNull(request.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE), path);
+        }
+        verify(jwtUtils, never()).extractPrincipal(token);
+    }
+
+    private static MockHttpServletRequest authenticatedRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,68 @@
+package com.shopsmart.ecommerceapi.security;
+
+import com.shopsmart.ecommerceapi.config.PasswordHashingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PasswordHasherTest {
+
+    private final PasswordHasher underTest = new PasswordHasher(properties(4));
+
+    @AfterEach
+    public void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    public void givenRawPassword_whenEncode_thenHashMatchesAndNeedsNoRehash() {
+        // When
+        String hash = underTest.encode("test@123");
+
+        // Then
+        assertNotEquals("test@123", hash);
+        assertTrue(underTest.matches("test@123", hash));
+        assertFalse(underTest.matches("wrongPass", hash));
+        assertFalse(underTest.needsRehash(hash));
+    }
+
+    @Test
+    public void givenLegacyPlaintextPassword_whenMatches_thenCompareAndRequireRehash() {
+        // When & Then
+        assertTrue(underTest.matches("test@123", "test@123"));
+        assertFalse(underTest.matches("test@12", "test@123"));
+        assertTrue(underTest.needsRehash("test@123"));
+    }
+
+    @Test
+    public void givenNullRawPassword_whenMatchesHash_thenFalse() {
+        // Given
+        String hash = underTest.encode("test@123");
+
+        // When & Then
+        assertFalse(underTest.matches(null, hash));
+        assertFalse(underTest.matches(null, "test@123"));
+    }
+
+    @Test
+    public void givenHashWithLowerCost_whenNeedsRehash_thenTrue() {
+        // Given
+        PasswordHasher stronger = new PasswordHasher(properties(5));
+        String weakHash = underTest.encode("test@123");
+
+        // When & Then
+        assertTrue(stronger.needsRehash(weakHash));
+        assertTrue(stronger.matches("test@123", weakHash));
+        stronger.shutdown();
+    }
+
+    private static PasswordHashingProperties properties(int strength) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(strength);
+        properties.setThreads(1);
+        return properties;
+    }
+}
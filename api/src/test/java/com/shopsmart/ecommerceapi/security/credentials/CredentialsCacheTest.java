@@ -0,0 +1,203 @@
+package com.shopsmart.ecommerceapi.security.credentials;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.shopsmart.ecommerceapi.config.CredentialsCacheProperties;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CredentialsCacheTest {
+
+    private static final UserCredentials CREDENTIALS = new UserCredentials(1L, "test@test.com", "hash", Set.of(1));
+    private static final UserCredentials CHANGED = new UserCredentials(1L, "test@test.com", "newHash", Set.of(1));
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final LocalCredentialsInvalidationBus bus = new LocalCredentialsInvalidationBus();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CredentialsCache underTest = new CredentialsCache(properties(true), bus, meterRegistry, ticker);
+
+    @Test
+    public void givenCachedCredentials_whenGetWithOtherCase_thenServeThemWithoutLoading() {
+        // Given
+        CountingLoader loader = new CountingLoader(CREDENTIALS);
+        underTest.get("test@test.com", loader);
+
+        // When
+        Optional<UserCredentials> credentials = underTest.get("TEST@Test.com", loader);
+
+        // Then
+        assertEquals(Optional.of(CREDENTIALS), credentials);
+        assertEquals(1, loader.loads.get());
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", "users.credentials").gauge().value());
+    }
+
+    @Test
+    public void givenUnknownEmail_whenGet_thenDoNotCacheTheMiss() {
+        // Given
+        underTest.get("test@test.com", new CountingLoader(null));
+        CountingLoader loader = new CountingLoader(CREDENTIALS);
+
+        // When
+        Optional<UserCredentials> credentials = underTest.get("test@test.com", loader);
+
+        // Then
+        assertEquals(Optional.of(CREDENTIALS), credentials);
+        assertEquals(1, loader.loads.get());
+    }
+
+    @Test
+    public void givenCredentialsCachedOnTwoInstances_whenEvictOnOne_thenBothReload() {
+        // Given
+        CredentialsCache otherInstance = new CredentialsCache(properties(true), bus, null, ticker);
+        underTest.get("test@test.com", new CountingLoader(CREDENTIALS));
+        otherInstance.get("test@test.com", new CountingLoader(CREDENTIALS));
+
+        // When
+        otherInstance.evict(1L, "Test@test.com");
+
+        // Then
+        assertEquals(Optional.of(CHANGED), underTest.get("test@test.com", new CountingLoader(CHANGED)));
+        assertEquals(Optional.of(CHANGED), otherInstance.get("test@test.com", new CountingLoader(CHANGED)));
+    }
+
+    @Test
+    public void givenEmailChanged_whenEvict_thenDropEntryOfPreviousEmail() {
+        // Given
+        underTest.get("old@test.com", new CountingLoader(CREDENTIALS));
+        CountingLoader loader = new CountingLoader(null);
+
+        // When
+        underTest.evict(1L, "new@test.com");
+
+        // Then
+        assertEquals(Optional.empty(), underTest.get("old@test.com", loader));
+        assertEquals(1, loader.loads.get());
+    }
+
+    @Test
+    public void givenOtherAccountCached_whenEvict_thenKeepIt() {
+        // Given
+        UserCredentials other = new UserCredentials(2L, "other@test.com", "hash", Set.of(1));
+        underTest.get("test@test.com", new CountingLoader(CREDENTIALS));
+        underTest.get("other@test.com", new CountingLoader(other));
+        CountingLoader loader = new CountingLoader(other);
+
+        // When
+        underTest.evict(1L, "test@test.com");
+
+        // Then
+        assertEquals(Optional.of(other), underTest.get("other@test.com", loader));
+        assertEquals(0, loader.loads.get());
+    }
+
+    @Test
+    public void givenEvictDuringLoad_whenGet_thenDoNotCacheWhatWasLoaded() {
+        // Given
+        Function<String, Optional<UserCredentials>> racingLoader = email -> {
+            underTest.evict(1L, email);
+            return Optional.of(CREDENTIALS);
+        };
+
+        // When
+        Optional<UserCredentials> credentials = underTest.get("test@test.com", racingLoader);
+
+        // Then
+        assertEquals(Optional.of(CREDENTIALS), credentials);
+        assertEquals(Optional.of(CHANGED), underTest.get("test@test.com", new CountingLoader(CHANGED)));
+    }
+
+    @Test
+    public void givenNullEmail_whenGet_thenLoadWithoutCaching() {
+        // Given
+        CountingLoader loader = new CountingLoader(null);
+
+        // When
+        Optional<UserCredentials> credentials = underTest.get(null, loader);
+
+        // Then
+        assertEquals(Optional.empty(), credentials);
+        assertEquals(1, loader.loads.get());
+    }
+
+    @Test
+    public void givenTtlElapsed_whenGet_thenReload() {
+        // Given
+        underTest.get("test@test.com", new CountingLoader(CREDENTIALS));
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // When
+        Optional<UserCredentials> credentials = underTest.get("test@test.com", new CountingLoader(CHANGED));
+
+        // Then
+        assertEquals(Optional.of(CHANGED), credentials);
+    }
+
+    @Test
+    public void givenActiveTransaction_whenEvict_thenEvictAgainAfterItCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Given
+            underTest.evict(1L, "test@test.com");
+            // A login reading the row before the commit
+            underTest.get("test@test.com", new CountingLoader(CREDENTIALS));
+
+            // When
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+
+            // Then
+            assertEquals(Optional.of(CHANGED), underTest.get("test@test.com", new CountingLoader(CHANGED)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void givenDisabledCache_whenGet_thenAlwaysLoad() {
+        // Given
+        CredentialsCache disabled = new CredentialsCache(properties(false), bus, null, ticker);
+        CountingLoader loader = new CountingLoader(CREDENTIALS);
+
+        // When
+        disabled.get("test@test.com", loader);
+        disabled.get("test@test.com", loader);
+
+        // Then
+        assertEquals(2, loader.loads.get());
+    }
+
+    private static CredentialsCacheProperties properties(boolean enabled) {
+        CredentialsCacheProperties properties = new CredentialsCacheProperties();
+        properties.setEnabled(enabled);
+        return properties;
+    }
+
+    private static final class CountingLoader implements Function<String, Optional<UserCredentials>> {
+
+        private final UserCredentials credentials;
+        private final AtomicInteger loads = new AtomicInteger();
+
+        private CountingLoader(UserCredentials credentials) {
+            this.credentials = credentials;
+        }
+
+        @Override
+        public Optional<UserCredentials> apply(String email) {
+            loads.incrementAndGet();
+            return Optional.ofNullable(credentials);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.shopsmart.ecommerceapi.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+    private final LocalRateLimiter underTest = new LocalRateLimiter(1000, clock);
+
+    @Test
+    public void givenRequestsUpToLimit_whenTryAcquire_thenAllowThemAndRejectTheNextUntilWindowEnds() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, underTest.tryAcquire("key", 5, WINDOW));
+        }
+        clock.advance(Duration.ofSeconds(20));
+
+        // When
+        long retryAfter = underTest.tryAcquire("key", 5, WINDOW);
+
+        // Then
+        assertEquals(Duration.ofSeconds(40).toMillis(), retryAfter);
+    }
+
+    @Test
+    public void givenFullPreviousWindow_whenTryAcquire_thenAllowOnlyAsItsWeightDecays() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            underTest.tryAcquire("key", 10, WINDOW);
+        }
+        clock.advance(WINDOW);
+
+        // When
+        long retryAfter = underTest.tryAcquire("key", 10, WINDOW);
+        clock.advance(Duration.ofMillis(retryAfter));
+
+        // Then
+        assertTrue(retryAfter > 0);
+        assertEquals(0, underTest.tryAcquire("key", 10, WINDOW));
+        assertTrue(underTest.tryAcquire("key", 10, WINDOW) > 0);
+    }
+
+    @Test
+    public void givenIdleForTwoWindows_whenTryAcquire_thenStartFromZero() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            underTest.tryAcquire("key", 3, WINDOW);
+        }
+        clock.advance(WINDOW.multipliedBy(2));
+
+        // When
+        // Then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, underTest.tryAcquire("key", 3, WINDOW));
+        }
+    }
+
+    @Test
+    public void givenExhaustedKey_whenTryAcquireOtherKey_thenAllow() {
+        // Given
+        underTest.tryAcquire("login:email:a@test.com", 1, WINDOW);
+
+        // When
+        // Then
+        assertTrue(underTest.tryAcquire("login:email:a@test.com", 1, WINDOW) > 0);
+        assertEquals(0, underTest.tryAcquire("login:email:b@test.com", 1, WINDOW));
+    }
+
+    @Test
+    public void givenConcurrentRequests_whenTryAcquire_thenAllowExactlyLimit() throws Exception {
+        // Given
+        int threads = 8;
+        int attemptsPerThread = 500;
+        int limit = 1000;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (underTest.tryAcquire("key", limit, WINDOW) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(limit, allowed.get());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.shopsmart.ecommerceapi.security.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenDenylistTest {
+
+    private static final Duration VALIDITY = Duration.ofMinutes(15);
+    private static final Duration BUCKET = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+    private final TokenDenylist underTest = new TokenDenylist(VALIDITY, BUCKET, 10_000, 1e-6, clock);
+
+    @Test
+    public void givenRevokedToken_whenIsRevoked_thenTrueOnlyForThatToken() {
+        // Given
+        long expiresAt = clock.millis() + VALIDITY.toMillis();
+        underTest.revoke("revoked-token-id", expiresAt);
+
+        // When
+        // Then
+        assertTrue(underTest.isRevoked("revoked-token-id", expiresAt));
+        assertFalse(underTest.isRevoked("other-token-id", expiresAt));
+        assertFalse(underTest.isRevoked(null, expiresAt));
+    }
+
+    @Test
+    public void givenBucketOfExpiredTokens_whenSlotIsReused_thenOldRevocationsAreDropped() {
+        // Given
+        long expiresAt = clock.millis() + Duration.ofMinutes(1).toMillis();
+        underTest.revoke("old-token-id", expiresAt);
+        clock.advance(Duration.ofMinutes(10));
+        long laterExpiry = expiresAt + Duration.ofMinutes(17).toMillis();
+
+        // When
+        underTest.revoke("new-token-id", laterExpiry);
+
+        // Then
+        assertTrue(underTest.isRevoked("new-token-id", laterExpiry));
+        assertFalse(underTest.isRevoked("old-token-id", expiresAt));
+    }
+
+    @Test
+    public void givenExpiredOrOutOfRangeToken_whenRevoke_thenIgnore() {
+        // Given
+        long expired = clock.millis() - Duration.ofMinutes(2).toMillis();
+        long tooFar = clock.millis() + Duration.ofDays(7).toMillis();
+
+        // When
+        underTest.revoke("expired-token-id", expired);
+        underTest.revoke("legacy-token-id", tooFar);
+
+        // Then
+        assertFalse(underTest.isRevoked("expired-token-id", expired));
+        assertFalse(underTest.isRevoked("legacy-token-id", tooFar));
+        assertEquals(0, underTest.sizeInBytes());
+    }
+
+    @Test
+    public void givenFilterAtCapacity_whenProbeUnknownIds_thenFalsePositiveRateStaysNearTarget() {
+        // Given
+        BloomFilter filter = new BloomFilter(100_000, 1e-3);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put(TokenDenylist.hash("revoked-" + i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(TokenDenylist.hash("valid-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(filter.mightContain(TokenDenylist.hash("revoked-" + i)));
+        }
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    public void givenTenMillionRevocations_whenSized_thenFitInAboutFortyMegabytes() {
+        // Given
+        TokenDenylist denylist = new TokenDenylist(VALIDITY, BUCKET, 10_000_000, 1e-6, clock);
+
+        // When
+        for (long minute = 0; minute <= VALIDITY.toMinutes(); minute++) {
+            denylist.revoke("token-" + minute, clock.millis() + Duration.ofMinutes(minute).toMillis());
+        }
+
+        // Then
+        long bytes = denylist.sizeInBytes();
+        System.out.printf("Denylist for 10M revoked tokens: %.1f MB in %d buckets%n", bytes / 1e6, VALIDITY.toMinutes() + 1);
+        assertTrue(bytes > 30_000_000L && bytes < 40_000_000L, "bytes: " + bytes);
+        assertEquals(20, new BloomFilter(1_000, 1e-6).hashCount());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.RevokedTokenRow;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.dto.UserCredentialsRow;
+import com.shopsmart.ecommerceapi.exception.AuthenticationRequired;
+import com.shopsmart.ecommerceapi.model.RefreshToken;
+import com.shopsmart.ecommerceapi.repository.RefreshTokenRepository;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.IssuedAccessToken;
+import com.shopsmart.ecommerceapi.security.RefreshTokens;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+
+    private static final UserCredentials CREDENTIALS = new UserCredentials(1L, "test@test.com", "hashedPassword", Set.of(1));
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private JWTUtils jwtUtils;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private RefreshTokenService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new RefreshTokenService(refreshTokenRepository, userRepository, jwtUtils, tokenRevocationService, new JwtProperties());
+    }
+
+    @Test
+    public void givenCredentials_whenIssue_thenStoreOnlyTheRefreshTokenHash() {
+        // Given
+        given(jwtUtils.generateAccessToken(CREDENTIALS)).willReturn(accessToken("access-1"));
+
+        // When
+        AuthResponse response = underTest.issue(CREDENTIALS);
+
+        // Then
+        ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(tokenCaptor.capture());
+        RefreshToken stored = tokenCaptor.getValue();
+        assertEquals("access-1", response.getToken());
+        assertNotNull(response.getRefreshToken());
+        assertEquals(RefreshTokens.hash(response.getRefreshToken()), stored.getTokenHash());
+        assertEquals(1L, stored.getUserId());
+        assertEquals("jti-access-1", stored.getAccessTokenId());
+        assertNotNull(stored.getFamilyId());
+    }
+
+    @Test
+    public void givenUnusedToken_whenRefresh_thenMarkUsedAndIssueInSameFamily() {
+        // Given
+        RefreshToken current = storedToken("refresh-1", null, null);
+        given(refreshTokenRepository.findByTokenHashForUpdate(RefreshTokens.hash("refresh-1"))).willReturn(Optional.of(current));
+        given(userRepository.findCredentialsById(1L)).willReturn(List.of(new UserCredentialsRow(1L, "test@test.com", "hashedPassword", 1)));
+        given(jwtUtils.generateAccessToken(any())).willReturn(accessToken("access-2"));
+
+        // When
+        AuthResponse response = underTest.refresh("refresh-1");
+
+        // Then
+        assertNotNull(current.getUsedAt());
+        assertEquals("access-2", response.getToken());
+        ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(tokenCaptor.capture());
+        assertEquals(current.getFamilyId(), tokenCaptor.getValue().getFamilyId());
+        verify(tokenRevocationService, never()).revoke(any());
+    }
+
+    @Test
+    public void givenUsedToken_whenRefresh_thenRevokeFamilyAndThrowAuthenticationRequired() {
+        // Given
+        RefreshToken reused = storedToken("refresh-1", Instant.now().minusSeconds(60), null);
+        List<RevokedTokenRow> liveAccessTokens = List.of(new RevokedTokenRow("jti-access-2", Instant.now().plusSeconds(600)));
+        given(refreshTokenRepository.findByTokenHashForUpdate(RefreshTokens.hash("refresh-1"))).willReturn(Optional.of(reused));
+        given(refreshTokenRepository.findLiveAccessTokens(eq(reused.getFamilyId()), any())).willReturn(liveAccessTokens);
+
+        // When
+        // Then
+        assertThrows(AuthenticationRequired.class, () -> underTest.refresh("refresh-1"));
+        verify(refreshTokenRepository).revokeFamily(eq(reused.getFamilyId()), any());
+        verify(tokenRevocationService).revoke(liveAccessTokens);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    public void givenRevokedOrUnknownToken_whenRefresh_thenThrowAuthenticationRequired() {
+        // Given
+        RefreshToken revoked = storedToken("refresh-1", null, Instant.now().minusSeconds(60));
+        given(refreshTokenRepository.findByTokenHashForUpdate(RefreshTokens.hash("refresh-1"))).willReturn(Optional.of(revoked));
+        given(refreshTokenRepository.findByTokenHashForUpdate(RefreshTokens.hash("unknown"))).willReturn(Optional.empty());
+
+        // When
+        // Then
+        assertThrows(AuthenticationRequired.class, () -> underTest.refresh("refresh-1"));
+        assertThrows(AuthenticationRequired.class, () -> underTest.refresh("unknown"));
+        verify(refreshTokenRepository, never()).save(any());
+        verify(tokenRevocationService, never()).revoke(any());
+    }
+
+    private static RefreshToken storedToken(String token, Instant usedAt, Instant revokedAt) {
+        Instant issuedAt = Instant.now().minus(Duration.ofDays(1));
+        return RefreshToken.builder()
+                .id(10L)
+                .tokenHash(RefreshTokens.hash(token))
+                .userId(1L)
+                .familyId(UUID.randomUUID())
+                .accessTokenId("jti-access-1")
+                .accessExpiresAt(issuedAt.plus(Duration.ofMinutes(15)))
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(Duration.ofDays(30)))
+                .usedAt(usedAt)
+                .revokedAt(revokedAt)
+                .build();
+    }
+
+    private static IssuedAccessToken accessToken(String token) {
+        return new IssuedAccessToken(token, "jti-" + token, System.currentTimeMillis() + Duration.ofMinutes(15).toMillis());
+    }
+}
@@ -0,0 +1,87 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.config.RoleRegistryProperties;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private final RoleRegistryProperties properties = new RoleRegistryProperties();
+
+    @Test
+    public void givenLoadedRoles_whenGetRequired_thenServeFromMemory() {
+        // Given
+        given(roleRepository.findAll()).willReturn(List.of(new Role(1, "customer"), new Role(2, "admin")));
+        RoleRegistry underTest = new RoleRegistry(roleRepository, properties);
+        underTest.load();
+
+        // When
+        Role customer = underTest.getRequired("customer");
+        underTest.getRequired("customer");
+
+        // Then
+        assertEquals(1, customer.getId());
+        assertTrue(underTest.findByName("admin").isPresent());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void givenMissingRequiredRole_whenLoad_thenFailFast() {
+        // Given
+        given(roleRepository.findAll()).willReturn(List.of(new Role(2, "admin")));
+        RoleRegistry underTest = new RoleRegistry(roleRepository, properties);
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, underTest::load);
+        assertEquals("Required role 'customer' is missing from the roles table", exception.getMessage());
+    }
+
+    @Test
+    public void givenRolesChanged_whenOnRolesChanged_thenReload() {
+        // Given
+        given(roleRepository.findAll())
+                .willReturn(List.of(new Role(1, "customer")))
+                .willReturn(List.of(new Role(1, "customer"), new Role(3, "support")));
+        RoleRegistry underTest = new RoleRegistry(roleRepository, properties);
+        underTest.load();
+
+        // When
+        underTest.onRolesChanged(new RolesChangedEvent("test"));
+
+        // Then
+        assertTrue(underTest.findByName("support").isPresent());
+    }
+
+    @Test
+    public void givenFailingRefresh_whenRefresh_thenKeepLastSnapshot() {
+        // Given
+        given(roleRepository.findAll())
+                .willReturn(List.of(new Role(1, "customer")))
+                .willThrow(new IllegalStateException("connection refused"));
+        RoleRegistry underTest = new RoleRegistry(roleRepository, properties);
+        underTest.load();
+
+        // When
+        underTest.refresh();
+
+        // Then
+        assertEquals(1, underTest.getRequired("customer").getId());
+    }
+}
@@ -0,0 +1,118 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exports {@code -Dexport.rows} (default 1,000,000) users and checks that heap use stays flat
+ * while the response is read line by line.
+ */
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class UserExportIT {
+
+    private static final int ROWS = Integer.getInteger("export.rows", 1_000_000);
+    private static final long MAX_HEAP_GROWTH_BYTES = 128L * 1024 * 1024;
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JWTUtils jwtUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenManyUsers_whenExportNdjson_thenStreamEveryUserWithBoundedHeap() {
+
+        // Given
+        jdbcTemplate.update(
+                "insert into users (id, first_name, last_name, email, phone_number, password, created_at) " +
+                "select nextval('users_seq'), 'test', 'test', 'user' || i || '@test.com', '+212600000000', 'secret', now() " +
+                "from generate_series(1, ?) i",
+                ROWS
+        );
+        jdbcTemplate.update("insert into users_roles (users_id, roles_id) select u.id, r.id from users u, roles r where r.name = 'customer'");
+        String token = adminToken();
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long[] peakHeap = {heapBefore};
+
+        // When
+        long exported = restTemplate.execute("/api/v1/users/export?format=ndjson", HttpMethod.GET,
+                request -> request.getHeaders().setBearerAuth(token),
+                response -> {
+                    assertEquals(HttpStatus.OK, response.getStatusCode());
+                    long lines = 0;
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            assertFalse(line.contains("password"));
+                            if (++lines % 100_000 == 0) {
+                                peakHeap[0] = Math.max(peakHeap[0], runtime.totalMemory() - runtime.freeMemory());
+                            }
+                        }
+                    }
+                    return lines;
+                });
+
+        // Then
+        assertEquals(ROWS, exported);
+        System.gc();
+        long heapGrowth = peakHeap[0] - heapBefore;
+        System.out.printf("Exported %d users, peak heap growth %d MB%n", exported, heapGrowth / (1024 * 1024));
+        assertTrue(heapGrowth < MAX_HEAP_GROWTH_BYTES);
+    }
+
+    private String adminToken() {
+        return jwtUtils.generateToken(User.builder()
+                .email("admin@test.com")
+                .roles(new HashSet<>(Set.of(new Role(2, "admin"))))
+                .build());
+    }
+}
@@ -0,0 +1,143 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.dto.ImportSummary;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Imports {@code -Dimport.rows} (default 50,000) pre-hashed users and reports rows per second.
+ */
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class UserImportIT {
+
+    private static final int ROWS = Integer.getInteger("import.rows", 50_000);
+
+    @Container
+    public static PostgreSQLContainer<?> psql = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureTestcontainersProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", psql::getJdbcUrl);
+        registry.add("spring.datasource.username", psql::getUsername);
+        registry.add("spring.datasource.password", psql::getPassword);
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JWTUtils jwtUtils;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from users_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    public void givenNdjsonWithInvalidAndDuplicateRows_whenImport_thenInsertValidRowsAndReportRejected() throws Exception {
+
+        // Given
+        String hash = passwordHasher.encode("test@123");
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            body.append("{\"firstName\":\"test\",\"lastName\":\"test\",\"email\":\"user").append(i)
+                    .append("@test.com\",\"phoneNumber\":\"+212600000000\",\"passwordHash\":\"").append(hash).append("\"}\n");
+        }
+        body.append("{\"firstName\":\"\",\"lastName\":\"test\",\"email\":\"blank@test.com\",\"phoneNumber\":\"+212600000000\",\"password\":\"test@123\"}\n");
+        body.append("{\"firstName\":\"test\",\"lastName\":\"test\",\"email\":\"user0@test.com\",\"phoneNumber\":\"+212600000000\",\"password\":\"test@123\"}\n");
+        body.append("not json\n");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/x-ndjson");
+        headers.setBearerAuth(adminToken());
+
+        // When
+        long start = System.nanoTime();
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/v1/users/import",
+                new HttpEntity<>(body.toString(), headers),
+                String.class
+        );
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<String> lines = response.getBody().lines().toList();
+        ImportSummary summary = mapper.readValue(lines.get(lines.size() - 1), ImportSummary.class);
+        assertEquals(ROWS, summary.getImported());
+        assertEquals(3, summary.getRejected());
+        assertEquals(ROWS, userRepository.count());
+        assertEquals(1, userRepository.findByEmail("user0@test.com").get().getRoles().size());
+        System.out.printf("Imported %d rows in %d ms (%.0f rows/s)%n", ROWS, elapsedMillis, ROWS * 1000.0 / elapsedMillis);
+    }
+
+    @Test
+    public void givenCustomerToken_whenImport_thenReturn403() {
+
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "text/csv");
+        headers.setBearerAuth(jwtUtils.generateToken(User.builder()
+                .email("customer@test.com")
+                .roles(new HashSet<>(Set.of(new Role(1, "customer"))))
+                .build()));
+
+        // When
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/v1/users/import",
+                new HttpEntity<>("firstName,lastName,email,phoneNumber,password\n", headers),
+                String.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+    }
+
+    private String adminToken() {
+        return jwtUtils.generateToken(User.builder()
+                .email("admin@test.com")
+                .roles(new HashSet<>(Set.of(new Role(2, "admin"))))
+                .build());
+    }
+}
@@ -0,0 +1,102 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.config.PasswordHashingProperties;
+import com.shopsmart.ecommerceapi.config.UserImportProperties;
+import com.shopsmart.ecommerceapi.dto.DataFormat;
+import com.shopsmart.ecommerceapi.dto.ImportSummary;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class UserImportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UserRepository userRepository;
+    private UserImportService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository = mock(UserRepository.class);
+        underTest = new UserImportService(
+                userRepository,
+                mock(RoleRegistry.class),
+                new PasswordHasher(new PasswordHashingProperties()),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                objectMapper,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new UserImportProperties()
+        );
+        ReflectionTestUtils.setField(underTest, "entityManager", mock(EntityManager.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    public void givenDatabaseFailureMidImport_whenImportUsers_thenEndReportWithAbortedSummary() throws Exception {
+        // Given
+        String input = "not json\n"
+                + "{\"firstName\":\"Ann\",\"lastName\":\"Lee\",\"email\":\"ann@example.com\","
+                + "\"phoneNumber\":\"0123456789\",\"password\":\"password1\"}\n";
+        given(userRepository.findExistingEmails(anyList()))
+                .willThrow(new DataAccessResourceFailureException("connection lost"));
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+
+        // When
+        ImportSummary summary = underTest.importUsers(
+                DataFormat.NDJSON, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), report);
+
+        // Then
+        List<String> lines = report.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+        ImportSummary written = objectMapper.readValue(lines.get(1), ImportSummary.class);
+        assertEquals(summary, written);
+        assertTrue(written.isAborted());
+        assertNotNull(written.getError());
+        assertEquals(0, written.getImported());
+        assertEquals(1, written.getRejected());
+    }
+
+    @Test
+    public void givenOnlyRejectedRows_whenImportUsers_thenEndReportWithCompleteSummary() throws Exception {
+        // Given
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+
+        // When
+        ImportSummary summary = underTest.importUsers(
+                DataFormat.NDJSON, new ByteArrayInputStream("not json\n".getBytes(StandardCharsets.UTF_8)), report);
+
+        // Then
+        List<String> lines = report.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals(summary, objectMapper.readValue(lines.get(1), ImportSummary.class));
+        assertFalse(summary.isAborted());
+        assertNull(summary.getError());
+        assertFalse(lines.get(1).contains("\"error\""));
+    }
+}
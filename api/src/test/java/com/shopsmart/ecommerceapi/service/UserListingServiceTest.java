@@ -0,0 +1,95 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.shopsmart.ecommerceapi.dto.UserCursor;
+import com.shopsmart.ecommerceapi.dto.UserFilter;
+import com.shopsmart.ecommerceapi.dto.UserListRow;
+import com.shopsmart.ecommerceapi.dto.UserPage;
+import com.shopsmart.ecommerceapi.dto.UserRoleRow;
+import com.shopsmart.ecommerceapi.exception.InvalidRequest;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class UserListingServiceTest {
+
+    private static final UserFilter NO_FILTER = new UserFilter(null, null, null, null);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserListingService underTest;
+
+    @Test
+    public void givenMoreRowsThanLimit_whenListUsers_thenReturnPageWithRolesAndNextCursor() {
+        // Given
+        Timestamp createdAt = Timestamp.from(Instant.parse("2024-01-01T10:00:00.123456Z"));
+        List<UserListRow> rows = List.of(row(3L, createdAt), row(2L, createdAt), row(1L, createdAt));
+        given(userRepository.findPage(NO_FILTER, null, 3)).willReturn(rows);
+        given(userRepository.findRoleNames(List.of(3L, 2L))).willReturn(List.of(
+                new UserRoleRow(3L, "customer"),
+                new UserRoleRow(3L, "admin")
+        ));
+
+        // When
+        UserPage page = underTest.listUsers(NO_FILTER, null, 2);
+
+        // Then
+        assertEquals(2, page.getItems().size());
+        assertEquals(List.of("customer", "admin"), page.getItems().get(0).getRoles());
+        assertEquals(List.of(), page.getItems().get(1).getRoles());
+        assertEquals(new UserCursor(createdAt.toInstant(), 2L), UserCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    public void givenLastPage_whenListUsers_thenReturnNoNextCursor() {
+        // Given
+        UserCursor after = new UserCursor(Instant.parse("2024-01-01T10:00:00Z"), 10L);
+        given(userRepository.findPage(NO_FILTER, after, 51)).willReturn(List.of());
+
+        // When
+        UserPage page = underTest.listUsers(NO_FILTER, after.encode(), 50);
+
+        // Then
+        assertEquals(0, page.getItems().size());
+        assertNull(page.getNextCursor());
+        verify(userRepository).findPage(eq(NO_FILTER), eq(after), anyInt());
+    }
+
+    @Test
+    public void givenTamperedCursor_whenListUsers_thenThrowInvalidRequest() {
+        // When
+        // Then
+        assertThrows(InvalidRequest.class, () -> underTest.listUsers(NO_FILTER, "not-a-cursor", 50));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void givenLimitAboveMaximum_whenListUsers_thenThrowInvalidRequest() {
+        // When
+        // Then
+        assertThrows(InvalidRequest.class, () -> underTest.listUsers(NO_FILTER, null, UserListingService.MAX_LIMIT + 1));
+        verifyNoInteractions(userRepository);
+    }
+
+    private static UserListRow row(Long id, Timestamp createdAt) {
+        return new UserListRow(id, "test", "test", "user" + id + "@test.com", "+212600000000", createdAt);
+    }
+}
@@ -0,0 +1,321 @@
+package com.shopsmart.ecommerceapi.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.shopsmart.ecommerceapi.config.CredentialsCacheProperties;
+import com.shopsmart.ecommerceapi.dto.AuthResponse;
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.dto.UserCredentialsRow;
+import com.shopsmart.ecommerceapi.exception.ResourceAlreadyExists;
+import com.shopsmart.ecommerceapi.exception.ResourceDoesNotExist;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.monitoring.ApiMetrics;
+import com.shopsmart.ecommerceapi.repository.UserRepository;
+import com.shopsmart.ecommerceapi.security.PasswordHasher;
+import com.shopsmart.ecommerceapi.security.credentials.CredentialsCache;
+import com.shopsmart.ecommerceapi.security.credentials.LocalCredentialsInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import javax.naming.AuthenticationException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private RoleRegistry roleRegistry;
+    @Mock
+    private PasswordHasher passwordHasher;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    private ApiMetrics metrics = new ApiMetrics(meterRegistry);
+    @Spy
+    private CredentialsCache credentialsCache = new CredentialsCache(
+            enabledCredentialsCache(), new LocalCredentialsInvalidationBus(), null, Ticker.systemTicker()
+    );
+
+    @InjectMocks
+    private UserService underTest;
+
+    @Test
+    public void givenNewCustomer_whenRegisterCustomer_thenReturnToken() {
+        // Given
+        User user = User
+                .builder()
+                .firstName("test")
+                .lastName("test")
+                .email("test@test.com")
+                .phoneNumber("+212600000000")
+                .password("test@123")
+                .build();
+        User userSpy = spy(user);
+        ArgumentCaptor<UserCredentials> credentialsCaptor = ArgumentCaptor.forClass(UserCredentials.class);
+        given(refreshTokenService.issue(credentialsCaptor.capture()))
+                .willReturn(AuthResponse.builder().token("someReturnedToken").refreshToken("someRefreshToken").build());
+        given(roleRegistry.getRequired(anyString())).willReturn(new Role(1, "customer"));
+        given(passwordHasher.encode("test@123")).willReturn("hashedPassword");
+
+        // When
+        AuthResponse authResponse = underTest.registerCustomer(userSpy);
+        // Then
+        verify(roleRegistry).getRequired("customer");
+
+        ArgumentCaptor<Role> roleCaptor = ArgumentCaptor.forClass(Role.class);
+        verify(userSpy).addRole(roleCaptor.capture());
+        assertEquals("customer", roleCaptor.getValue().getName());
+
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(userCaptor.capture());
+        User passedUserToSave = userCaptor.getValue();
+        assertEquals("test", passedUserToSave.getFirstName());
+        assertEquals("test", passedUserToSave.getLastName());
+        assertEquals("test@test.com", passedUserToSave.getEmail());
+        assertEquals("+212600000000", passedUserToSave.getPhoneNumber());
+        assertEquals("hashedPassword", passedUserToSave.getPassword());
+
+        UserCredentials passedCredentials = credentialsCaptor.getValue();
+        assertEquals("test@test.com", passedCredentials.email());
+        assertEquals(Set.of(1), passedCredentials.roleIds());
+        assertEquals("someReturnedToken", authResponse.getToken());
+        assertEquals("someRefreshToken", authResponse.getRefreshToken());
+
+    }
+
+    @Test
+    public void givenUserWithAlreadyInUseEmail_whenRegistercustomer_throwResourceAlreadyExists() {
+
+        // Given
+
+        User user = User
+                .builder()
+                .firstName("test")
+                .lastName("test")
+                .email("test@test.com")
+                .phoneNumber("+212614671572")
+                .password("test@123")
+                .build();
+
+        given(roleRegistry.getRequired("customer")).willReturn(new Role(1, "customer"));
+        given(passwordHasher.encode("test@123")).willReturn("hashedPassword");
+        given(userRepository.save(user)).willThrow(uniqueViolation("ux_users_email_lower"));
+
+        // When & Then
+        Exception exception = assertThrows(ResourceAlreadyExists.class, () -> {
+            underTest.registerCustomer(user);
+        });
+        assertEquals("Email is already in use", exception.getMessage());
+        verify(refreshTokenService, never()).issue(any());
+        assertEquals(1, meterRegistry.get("auth.register").tag("outcome", "email_taken").timer().count());
+
+    }
+
+    @Test
+    public void givenOtherConstraintViolation_whenRegisterCustomer_thenRethrow() {
+
+        // Given
+        User user = User
+                .builder()
+                .firstName("test")
+                .lastName("test")
+                .email("test@test.com")
+                .phoneNumber("+212614671572")
+                .password("test@123")
+                .build();
+
+        DataIntegrityViolationException violation = uniqueViolation("users_pkey");
+        given(roleRegistry.getRequired("customer")).willReturn(new Role(1, "customer"));
+        given(passwordHasher.encode("test@123")).willReturn("hashedPassword");
+        given(userRepository.save(user)).willThrow(violation);
+
+        // When & Then
+        Exception exception = assertThrows(DataIntegrityViolationException.class, () -> {
+            underTest.registerCustomer(user);
+        });
+        assertSame(violation, exception);
+
+    }
+
+    @Test
+    public void givenExistingUserEmailAndPassword_whenLoginCustomer_thenReturnToken() throws AuthenticationException {
+
+        // Given
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("test@test.com")
+                .password("test@123")
+                .build();
+
+        UserCredentialsRow row = new UserCredentialsRow(1L, "test@test.com", "hashedPassword", 1);
+
+        ArgumentCaptor<String> stringCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<UserCredentials> credentialsCaptor = ArgumentCaptor.forClass(UserCredentials.class);
+
+        given(userRepository.findCredentialsByEmail(stringCaptor.capture())).willReturn(List.of(row));
+        given(passwordHasher.matches("test@123", "hashedPassword")).willReturn(true);
+        given(refreshTokenService.issue(credentialsCaptor.capture())).willReturn(AuthResponse.builder().token("someToken").build());
+        // When
+        AuthResponse authResponse = underTest.loginCustomer(loginRequest);
+        // Then
+        assertEquals("someToken", authResponse.getToken());
+
+        String capturedEmail = stringCaptor.getValue();
+        assertEquals("test@test.com", capturedEmail);
+        assertEquals("test@test.com", credentialsCaptor.getValue().email());
+        assertEquals(Set.of(1), credentialsCaptor.getValue().roleIds());
+        verify(userRepository, never()).updatePassword(any(), any());
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("auth.login.phase").tag("phase", "db_lookup").timer().count());
+        assertEquals(1, meterRegistry.get("auth.login.phase").tag("phase", "password_verify").timer().count());
+        assertEquals(1, meterRegistry.get("auth.login.phase").tag("phase", "token_issue").timer().count());
+        assertEquals(0, meterRegistry.get("auth.login.phase").tag("phase", "password_rehash").timer().count());
+
+    }
+
+    @Test
+    public void givenNonExistingUserEmail_whenLoginCustomer_thenThrowResourceDoesNotExistAndMessage() {
+
+        // Given
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("test@test.com")
+                .password("test@123")
+                .build();
+
+        given(userRepository.findCredentialsByEmail(loginRequest.getEmail())).willReturn(List.of());
+        // When & Then
+        ResourceDoesNotExist exception = assertThrows(ResourceDoesNotExist.class, () -> {
+            underTest.loginCustomer(loginRequest);
+        });
+        assertEquals("Email is not linked to any account", exception.getMessage());
+        assertEquals("email", exception.getField());
+
+    }
+
+    @Test
+    public void givenMissingEmailWithCacheEnabled_whenLoginCustomer_thenThrowResourceDoesNotExist() {
+
+        // Given
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .password("test@123")
+                .build();
+
+        // When & Then
+        ResourceDoesNotExist exception = assertThrows(ResourceDoesNotExist.class, () -> {
+            underTest.loginCustomer(loginRequest);
+        });
+        assertEquals("email", exception.getField());
+
+    }
+
+    @Test
+    public void givenLegacyPlaintextPassword_whenLoginCustomer_thenRehashPassword() throws AuthenticationException {
+
+        // Given
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("test@test.com")
+                .password("test@123")
+                .build();
+
+        UserCredentialsRow row = new UserCredentialsRow(1L, "test@test.com", "test@123", 1);
+
+        given(userRepository.findCredentialsByEmail("test@test.com")).willReturn(List.of(row));
+        given(passwordHasher.matches("test@123", "test@123")).willReturn(true);
+        given(passwordHasher.needsRehash("test@123")).willReturn(true);
+        given(passwordHasher.encode("test@123")).willReturn("hashedPassword");
+        // When
+        underTest.loginCustomer(loginRequest);
+        underTest.loginCustomer(loginRequest);
+        // Then
+        verify(userRepository, times(2)).updatePassword(1L, "hashedPassword");
+        verify(userRepository, times(2)).findCredentialsByEmail("test@test.com");
+
+    }
+
+    @Test
+    public void givenRepeatedLogins_whenLoginCustomer_thenReadCredentialsOnce() throws AuthenticationException {
+
+        // Given
+
+        UserCredentialsRow row = new UserCredentialsRow(1L, "test@test.com", "hashedPassword", 1);
+
+        given(userRepository.findCredentialsByEmail("test@test.com")).willReturn(List.of(row));
+        given(passwordHasher.matches("test@123", "hashedPassword")).willReturn(true);
+        // When
+        underTest.loginCustomer(LoginRequest.builder().email("test@test.com").password("test@123").build());
+        underTest.loginCustomer(LoginRequest.builder().email("Test@Test.com").password("test@123").build());
+        // Then
+        verify(userRepository).findCredentialsByEmail("test@test.com");
+        verify(refreshTokenService, times(2)).issue(any());
+        assertEquals(1, credentialsCache.stats().hitCount());
+
+    }
+
+    @Test
+    public void givenWrongPassword_whenLoginCustomer_thenThrowAuthenticationException() {
+
+        // Given
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("test@test.com")
+                .password("wrongPass")
+                .build();
+
+        UserCredentialsRow row = new UserCredentialsRow(1L, "test@test.com", "hashedPassword", 1);
+
+        given(userRepository.findCredentialsByEmail("test@test.com")).willReturn(List.of(row));
+        given(passwordHasher.matches("wrongPass", "hashedPassword")).willReturn(false);
+        // When & Then
+        AuthenticationException exception = assertThrows(AuthenticationException.class, () -> {
+            underTest.loginCustomer(loginRequest);
+        });
+        assertEquals("Incorrect password", exception.getMessage());
+        verify(userRepository, never()).updatePassword(any(), any());
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "wrong_password").timer().count());
+        assertEquals(0, meterRegistry.get("auth.login.phase").tag("phase", "token_issue").timer().count());
+
+    }
+
+
+    private static CredentialsCacheProperties enabledCredentialsCache() {
+        CredentialsCacheProperties properties = new CredentialsCacheProperties();
+        properties.setEnabled(true);
+        return properties;
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), constraintName)
+        );
+    }
+}
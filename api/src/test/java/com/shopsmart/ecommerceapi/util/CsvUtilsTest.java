@@ -0,0 +1,34 @@
+package com.shopsmart.ecommerceapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CsvUtilsTest {
+
+    @Test
+    public void givenQuotedFields_whenParseLine_thenUnquoteAndUnescape() {
+        // When
+        List<String> fields = CsvUtils.parseLine("test,\"Doe, Jr\",\"say \"\"hi\"\"\",,last");
+
+        // Then
+        assertEquals(List.of("test", "Doe, Jr", "say \"hi\"", "", "last"), fields);
+    }
+
+    @Test
+    public void givenFieldsNeedingQuotes_whenAppendField_thenRoundTrip() {
+        // Given
+        StringBuilder line = new StringBuilder();
+
+        // When
+        CsvUtils.appendField(line, "Doe, \"Jr\"");
+        line.append(',');
+        CsvUtils.appendField(line, "plain");
+
+        // Then
+        assertEquals("\"Doe, \"\"Jr\"\"\",plain", line.toString());
+        assertEquals(List.of("Doe, \"Jr\"", "plain"), CsvUtils.parseLine(line.toString()));
+    }
+}
@@ -0,0 +1,283 @@
+package com.shopsmart.ecommerceapi.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.model.Role;
+import com.shopsmart.ecommerceapi.model.User;
+import com.shopsmart.ecommerceapi.security.IssuedAccessToken;
+import com.shopsmart.ecommerceapi.security.JwtPrincipal;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JWTUtilsTest {
+
+    private static final String OLD_SECRET = "b2xkLXNob3BzbWFydC1zZWNyZXQta2V5LTAxMjM0NTY3ODlhYmNkZWYwMTIzNDU=";
+    private static final String NEW_SECRET = "bmV3LXNob3BzbWFydC1zZWNyZXQta2V5LTAxMjM0NTY3ODlhYmNkZWYwMTIzNDU=";
+
+    private final User user = User.builder().email("test@test.com").roles(new HashSet<>()).build();
+
+    @Test
+    public void givenNoConfiguredKeys_whenGenerateToken_thenSignWithDefaultKeyAndVerify() throws Exception {
+        // Given
+        JWTUtils underTest = new JWTUtils(new JwtProperties(), OLD_SECRET);
+
+        // When
+        String token = underTest.generateToken(user);
+
+        // Then
+        assertEquals(JWTUtils.DEFAULT_KEY_ID, keyIdOf(token));
+        assertEquals("test@test.com", underTest.extractEmail(token));
+    }
+
+    @Test
+    public void givenRotatedKeys_whenGenerateToken_thenSignWithLatestActiveKeyAndAcceptBoth() throws Exception {
+        // Given
+        Instant now = Instant.now();
+        JWTUtils before = new JWTUtils(properties(key("k1", OLD_SECRET, null)), null);
+        String oldToken = before.generateToken(user);
+
+        JWTUtils underTest = new JWTUtils(properties(
+                key("k1", OLD_SECRET, null),
+                key("k2", NEW_SECRET, now.minus(1, ChronoUnit.MINUTES)),
+                key("k3", OLD_SECRET.replace('b', 'c'), now.plus(1, ChronoUnit.DAYS))
+        ), null);
+
+        // When
+        String newToken = underTest.generateToken(user);
+
+        // Then
+        assertEquals("k2", keyIdOf(newToken));
+        assertEquals("test@test.com", underTest.extractEmail(newToken));
+        assertEquals("test@test.com", underTest.extractEmail(oldToken));
+    }
+
+    @Test
+    public void givenTokenWithUnknownKeyId_whenExtractEmail_thenThrowSignatureException() {
+        // Given
+        String token = new JWTUtils(properties(key("retired", OLD_SECRET, null)), null).generateToken(user);
+        JWTUtils underTest = new JWTUtils(properties(key("k2", NEW_SECRET, null)), null);
+
+        // When & Then
+        assertThrows(SignatureException.class, () -> underTest.extractEmail(token));
+    }
+
+    @Test
+    public void givenUserWithRoles_whenExtractPrincipal_thenReadCompactClaims() throws Exception {
+        // Given
+        JWTUtils underTest = new JWTUtils(new JwtProperties(), OLD_SECRET);
+        User admin = User.builder()
+                .id(42L)
+                .email("admin@test.com")
+                .roles(new HashSet<>(Set.of(new Role(1, "customer"), new Role(2, "admin"))))
+                .build();
+        IssuedAccessToken issued = underTest.generateAccessToken(
+                new UserCredentials(42L, "admin@test.com", "hash", Set.of(1, 2))
+        );
+
+        // When
+        JwtPrincipal principal = underTest.extractPrincipal(issued.token());
+        JwtPrincipal fromUser = underTest.extractPrincipal(underTest.generateToken(admin));
+
+        // Then
+        assertEquals(42L, principal.userId());
+        assertEquals("admin@test.com", principal.email());
+        assertEquals(Set.of(1, 2), principal.roleIds());
+        assertEquals(issued.tokenId(), principal.tokenId());
+        assertEquals(issued.expiresAtMillis() / 1000 * 1000, principal.expiresAtMillis());
+        assertEquals(principal.roleIds(), fromUser.roleIds());
+        JsonNode payload = payloadOf(issued.token());
+        assertEquals(Set.of("sub", "uid", "rol", "jti", "exp"), fieldNames(payload));
+    }
+
+    @Test
+    public void givenLegacyTokenWithRoleNames_whenExtractPrincipal_thenAcceptItWithoutRoles() {
+        // Given
+        JWTUtils underTest = new JWTUtils(new JwtProperties(), OLD_SECRET);
+        String legacy = Jwts.builder()
+                .setHeaderParam("kid", JWTUtils.DEFAULT_KEY_ID)
+                .claim("roles", List.of("customer", "admin"))
+                .setId("AAAAAAAAAAAAAAAAAAAAAA")
+                .setSubject("admin@test.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(hmacKey(OLD_SECRET), SignatureAlgorithm.HS256)
+                .compact();
+        String compact = underTest.generateAccessToken(
+                new UserCredentials(42L, "admin@test.com", "hash", Set.of(1, 2))
+        ).token();
+
+        // When
+        JwtPrincipal principal = underTest.extractPrincipal(legacy);
+
+        // Then
+        assertEquals("admin@test.com", principal.email());
+        assertTrue(principal.roleIds().isEmpty());
+        assertTrue(compact.length() < legacy.length());
+    }
+
+    @Test
+    public void givenTamperedPayload_whenExtractPrincipal_thenThrowSignatureException() {
+        // Given
+        JWTUtils underTest = new JWTUtils(new JwtProperties(), OLD_SECRET);
+        String[] parts = underTest.generateToken(user).split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"sub\":\"test@test.com\",\"rol\":[2],\"exp\":4102444800}".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // When & Then
+        assertThrows(SignatureException.class, () -> underTest.extractPrincipal(parts[0] + "." + forgedPayload + "." + parts[2]));
+    }
+
+    @Test
+    public void givenUnsignedOrNonHs256Token_whenExtractPrincipal_thenThrowUnsupportedJwtException() {
+        // Given
+        JWTUtils underTest = new JWTUtils(new JwtProperties(), OLD_SECRET);
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        String unsigned = Jwts.builder().setSubject("test@test.com").setExpiration(expiration).compact();
+        String hs512 = Jwts.builder()
+                .setSubject("test@test.com")
+                .setExpiration(expiration)
+                .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS512), SignatureAlgorithm.HS512)
+                .compact();
+
+        // When & Then
+        assertThrows(UnsupportedJwtException.class, () -> underTest.extractPrincipal(unsigned));
+        assertThrows(UnsupportedJwtException.class, () -> underTest.extractPrincipal(hs512));
+    }
+
+    @Test
+    public void givenExpiredToken_whenExtractPrincipal_thenThrowExpiredJwtException() {
+        // Given
+        JWTUtils underTest = new JWTUtils(new JwtProperties(), OLD_SECRET);
+        String expired = Jwts.builder()
+                .setSubject("test@test.com")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(hmacKey(OLD_SECRET), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> underTest.extractPrincipal(expired));
+    }
+
+    @Test
+    public void givenTokenWithUnknownKeyId_whenExtractPrincipal_thenThrowSignatureException() {
+        // Given
+        String token = new JWTUtils(properties(key("retired", OLD_SECRET, null)), null).generateToken(user);
+        JWTUtils underTest = new JWTUtils(properties(key("k2", NEW_SECRET, null)), null);
+
+        // When & Then
+        assertThrows(SignatureException.class, () -> underTest.extractPrincipal(token));
+    }
+
+    @Test
+    public void givenEs256Key_whenGenerateToken_thenVerifyWithPublicKeyAndPublishOnlyIt() throws Exception {
+        // Given
+        JWTUtils underTest = new JWTUtils(properties(
+                key("k1", OLD_SECRET, null),
+                ecKey("ec1", Instant.now().minus(1, ChronoUnit.MINUTES))
+        ), null);
+
+        // When
+        String token = underTest.generateToken(user);
+
+        // Then
+        assertEquals("ES256", headerOf(token).get("alg").asText());
+        assertEquals("ec1", keyIdOf(token));
+        assertEquals("test@test.com", underTest.extractPrincipal(token).email());
+        assertEquals("test@test.com", underTest.extractEmail(token));
+        assertEquals(Set.of("ec1"), underTest.publicKeys().keySet());
+    }
+
+    @Test
+    public void givenHs256TokenForEs256KeyId_whenExtractPrincipal_thenThrowUnsupportedJwtException() throws Exception {
+        // Given
+        JWTUtils underTest = new JWTUtils(properties(ecKey("ec1", null)), null);
+        // Signed with the published public key as an HMAC secret: the classic algorithm confusion.
+        byte[] publicKey = underTest.publicKeys().get("ec1").getEncoded();
+        String forged = Jwts.builder()
+                .setHeaderParam("kid", "ec1")
+                .setSubject("admin@test.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(publicKey), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When & Then
+        assertThrows(UnsupportedJwtException.class, () -> underTest.extractPrincipal(forged));
+    }
+
+    private static String keyIdOf(String token) throws Exception {
+        byte[] header = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+        return new ObjectMapper().readTree(header).get("kid").asText();
+    }
+
+    private static JsonNode headerOf(String token) throws Exception {
+        return new ObjectMapper().readTree(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+    }
+
+    private static JsonNode payloadOf(String token) throws Exception {
+        String[] parts = token.split("\\.");
+        return new ObjectMapper().readTree(Base64.getUrlDecoder().decode(parts[1]));
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new HashSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+
+    private static JwtProperties properties(JwtProperties.SigningKey... keys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setKeys(List.of(keys));
+        return properties;
+    }
+
+    private static JwtProperties.SigningKey ecKey(String id, Instant activeFrom) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setId(id);
+        key.setAlgorithm("ES256");
+        key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        key.setActiveFrom(activeFrom);
+        return key;
+    }
+
+    private static JwtProperties.SigningKey key(String id, String secret, Instant activeFrom) {
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setId(id);
+        key.setSecret(secret);
+        key.setActiveFrom(activeFrom);
+        return key;
+    }
+}
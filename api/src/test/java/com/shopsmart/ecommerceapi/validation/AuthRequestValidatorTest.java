@@ -0,0 +1,128 @@
+package com.shopsmart.ecommerceapi.validation;
+
+import com.shopsmart.ecommerceapi.dto.LoginRequest;
+import com.shopsmart.ecommerceapi.dto.RegisterRequest;
+import com.shopsmart.ecommerceapi.exception.InvalidRequest;
+import com.shopsmart.ecommerceapi.model.ValidationSequenceOrder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AuthRequestValidatorTest {
+
+    private static final String LONG_NAME = "Lorem ipsum dolor sit amet consectetur adipisw";
+    private static final String LONG_EMAIL = "a".repeat(250) + "@gmail.com";
+
+    private final Validator beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final AuthRequestValidator underTest = new AuthRequestValidator(beanValidator);
+
+    @Test
+    public void givenRegisterRequests_whenValidate_thenReportSameViolationsAsBeanValidation() {
+        // Given
+        List<Consumer<RegisterRequest.RegisterRequestBuilder>> cases = List.of(
+                builder -> {},
+                // The UserControllerIT cases.
+                builder -> builder.firstName(""),
+                builder -> builder.lastName(""),
+                builder -> builder.email(""),
+                builder -> builder.phoneNumber(""),
+                builder -> builder.password(""),
+                builder -> builder.firstName("test0"),
+                builder -> builder.lastName("test0"),
+                builder -> builder.firstName(LONG_NAME),
+                builder -> builder.lastName(LONG_NAME),
+                builder -> builder.email("test.com"),
+                builder -> builder.email(LONG_EMAIL),
+                builder -> builder.password("testtesttesttesttestt"),
+                builder -> builder.password("test@12"),
+                // Missing, blank and borderline values.
+                builder -> builder.firstName(null).lastName(null).email(null).phoneNumber(null).password(null),
+                builder -> builder.firstName(" ").email(" \t").phoneNumber("\n").password("        "),
+                builder -> builder.firstName("test ").lastName("tést"),
+                builder -> builder.firstName("a".repeat(45)).email("user@[127.0.0.1]"),
+                builder -> builder.email("a@b").password("12345678901234567890"),
+                builder -> builder.email("test@test..com").password("short"),
+                builder -> builder.firstName("").password("short")
+        );
+
+        // When
+        // Then
+        for (Consumer<RegisterRequest.RegisterRequestBuilder> customizer : cases) {
+            RegisterRequest.RegisterRequestBuilder builder = validRegisterRequest();
+            customizer.accept(builder);
+            RegisterRequest request = builder.build();
+            assertEquals(
+                    beanValidationViolations(beanValidator.validate(request, ValidationSequenceOrder.class)),
+                    fastViolations(underTest.violations(request)),
+                    request.toString()
+            );
+        }
+    }
+
+    @Test
+    public void givenLoginRequests_whenValidate_thenReportSameViolationsAsBeanValidation() {
+        // Given
+        List<String> emails = List.of("test@test.com", "test.com", "", "a b@test.com");
+
+        // When
+        // Then
+        for (String email : emails) {
+            LoginRequest request = LoginRequest.builder().email(email).password("test@123").build();
+            assertEquals(
+                    beanValidationViolations(beanValidator.validate(request)),
+                    fastViolations(underTest.violations(request)),
+                    email
+            );
+        }
+    }
+
+    @Test
+    public void givenSeveralInvalidFields_whenValidate_thenThrowFirstFieldsMessage() {
+        // Given
+        RegisterRequest request = validRegisterRequest().lastName("").email("test.com").build();
+
+        // When
+        InvalidRequest exception = assertThrows(InvalidRequest.class, () -> underTest.validate(request));
+
+        // Then
+        assertEquals("Last name is required", exception.getMessage());
+        assertDoesNotThrow(() -> underTest.validate(validRegisterRequest().build()));
+    }
+
+    private static RegisterRequest.RegisterRequestBuilder validRegisterRequest() {
+        return RegisterRequest.builder()
+                .firstName("test")
+                .lastName("test")
+                .email("test@test.com")
+                .phoneNumber("+212600000000")
+                .password("test@123");
+    }
+
+    private static <T> List<String> beanValidationViolations(Set<ConstraintViolation<T>> violations) {
+        List<String> result = new ArrayList<>();
+        for (ConstraintViolation<T> violation : violations) {
+            result.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private static List<String> fastViolations(List<AuthRequestValidator.Violation> violations) {
+        List<String> result = new ArrayList<>();
+        for (AuthRequestValidator.Violation violation : violations) {
+            result.add(violation.field() + ": " + violation.message());
+        }
+        result.sort(null);
+        return result;
+    }
+}
@@ -0,0 +1,216 @@
+package com.shopsmart.ecommerceapi.verifier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopsmart.ecommerceapi.config.JwtProperties;
+import com.shopsmart.ecommerceapi.dto.UserCredentials;
+import com.shopsmart.ecommerceapi.security.JsonWebKeySet;
+import com.shopsmart.ecommerceapi.util.JWTUtils;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwksTokenVerifierTest {
+
+    private static final UserCredentials CREDENTIALS = new UserCredentials(42L, "test@test.com", "hash", Set.of(1, 2));
+
+    private final MutableClock clock = new MutableClock(Instant.now());
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    private HttpServer server;
+    private volatile JsonWebKeySet published;
+    private JwksTokenVerifier underTest;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            JsonWebKeySet keySet = published;
+            if (keySet.etag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                fullResponses.incrementAndGet();
+                exchange.getResponseHeaders().set("ETag", keySet.etag());
+                exchange.getResponseHeaders().set("Cache-Control", "max-age=60, public");
+                exchange.sendResponseHeaders(200, keySet.json().length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(keySet.json());
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        URI jwksUri = URI.create("http://localhost:" + server.getAddress().getPort() + "/.well-known/jwks.json");
+        underTest = new JwksTokenVerifier(jwksUri, HttpClient.newHttpClient(), clock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void givenEs256Token_whenVerifyTwice_thenReturnClaimsAndFetchKeysOnce() throws Exception {
+        // Given
+        JWTUtils issuer = issuer(ecKey("ec1", null));
+        String token = issuer.generateAccessToken(CREDENTIALS).token();
+
+        // When
+        VerifiedToken verified = underTest.verify(token);
+        underTest.verify(token);
+
+        // Then
+        assertEquals(42L, verified.userId());
+        assertEquals("test@test.com", verified.email());
+        assertTrue(verified.hasRole(2));
+        assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    public void givenKeysNearMaxAge_whenVerify_thenRevalidateInBackgroundWithEtag() throws Exception {
+        // Given
+        JWTUtils issuer = issuer(ecKey("ec1", null));
+        String token = issuer.generateAccessToken(CREDENTIALS).token();
+        underTest.verify(token);
+        clock.advance(Duration.ofSeconds(50));
+
+        // When
+        underTest.verify(token);
+
+        // Then
+        awaitUntil(() -> notModifiedResponses.get() == 1);
+        assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    public void givenTokenWithNewKeyId_whenVerify_thenRefetchAtMostEveryMinInterval() throws Exception {
+        // Given
+        JwtProperties.SigningKey oldKey = ecKey("ec1", null);
+        underTest.verify(issuer(oldKey).generateAccessToken(CREDENTIALS).token());
+        JWTUtils rotated = issuer(oldKey, ecKey("ec2", Instant.now().minusSeconds(1)));
+        String token = rotated.generateAccessToken(CREDENTIALS).token();
+
+        // When
+        // Then
+        assertThrows(TokenVerificationException.class, () -> underTest.verify(token));
+        clock.advance(JwksCache.MIN_REFRESH_INTERVAL);
+        assertEquals("test@test.com", underTest.verify(token).email());
+        assertEquals(2, fullResponses.get());
+    }
+
+    @Test
+    public void givenUnreachableJwks_whenRefresh_thenKeepVerifyingWithCachedKeys() throws Exception {
+        // Given
+        JWTUtils issuer = issuer(ecKey("ec1", null));
+        String token = issuer.generateAccessToken(CREDENTIALS).token();
+        underTest.verify(token);
+        server.stop(0);
+        clock.advance(Duration.ofMinutes(2));
+
+        // When
+        // Then
+        assertEquals("test@test.com", underTest.verify(token).email());
+        Thread.sleep(200);
+        assertEquals("test@test.com", underTest.verify(token).email());
+    }
+
+    @Test
+    public void givenTamperedOrHs256Token_whenVerify_thenThrowTokenVerificationException() throws Exception {
+        // Given
+        JwtProperties.SigningKey hmacKey = new JwtProperties.SigningKey();
+        hmacKey.setId("ec1");
+        hmacKey.setSecret("b2xkLXNob3BzbWFydC1zZWNyZXQta2V5LTAxMjM0NTY3ODlhYmNkZWYwMTIzNDU=");
+        String hs256 = issuer(hmacKey).generateAccessToken(CREDENTIALS).token();
+        JWTUtils issuer = issuer(ecKey("ec1", null));
+        String[] parts = issuer.generateAccessToken(CREDENTIALS).token().split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"sub\":\"admin@test.com\",\"exp\":4102444800}".getBytes());
+        underTest.verify(String.join(".", parts));
+
+        // When
+        // Then
+        assertThrows(TokenVerificationException.class, () -> underTest.verify(parts[0] + "." + forgedPayload + "." + parts[2]));
+        assertThrows(TokenVerificationException.class, () -> underTest.verify(hs256));
+    }
+
+    // Publishes the issuer's public keys, as the API does.
+    private JWTUtils issuer(JwtProperties.SigningKey... keys) throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setKeys(List.of(keys));
+        JWTUtils jwtUtils = new JWTUtils(properties, null);
+        published = new JsonWebKeySet(jwtUtils, new ObjectMapper());
+        return jwtUtils;
+    }
+
+    private static JwtProperties.SigningKey ecKey(String id, Instant activeFrom) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setId(id);
+        key.setAlgorithm("ES256");
+        key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        key.setActiveFrom(activeFrom);
+        return key;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,13 +0,0 @@
-package com.shopsmart.ecommerceapi;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-@SpringBootApplication
-public class ShopsmartApiApplication {
-
-    public static void main(String[] args) {
-        SpringApplication.run(ShopsmartApiApplication.class, args);
-    }
-
-}
@@ -1,13 +0,0 @@
-package com.shopsmart.ecommerceapi.repository;
-
-import com.shopsmart.ecommerceapi.model.User;
-import org.springframework.data.repository.CrudRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
-
-@Repository
-public interface UserRepository extends CrudRepository<User, Long> {
-
-    Optional<User> findByEmail(String email);
-}
@@ -1 +0,0 @@
-insert into roles (name) values ('customer');
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.shopsmart.ecommerceapi.verifier;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads the compact access tokens the API issues: the three Base64url parts, the header, and the
+ * claims with a streaming parser. The API's own parser and {@link JwksTokenVerifier} both read
+ * tokens through it, each mapping failures to its own exception type, so the two cannot drift
+ * apart on the token format.
+ */
+public final class AccessTokenClaims {
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "rol";
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * @param signingInput the ASCII bytes of the whole token; the signature covers its first
+     *                     {@code signedLength} bytes
+     */
+    public record Parts(byte[] signingInput, int signedLength, byte[] header, byte[] payload, byte[] signature) {
+    }
+
+    /**
+     * @param unsupportedField {@code crit} or {@code zip} if present, which neither reader supports
+     */
+    public record Header(String algorithm, String keyId, String unsupportedField) {
+    }
+
+    /**
+     * @param expiresAtSeconds  -1 if absent
+     * @param notBeforeSeconds  -1 if absent
+     */
+    public record Claims(String subject, Long userId, Set<Integer> roleIds, String tokenId,
+                         long expiresAtSeconds, long notBeforeSeconds) {
+
+        public boolean hasExpiration() {
+            return expiresAtSeconds >= 0;
+        }
+
+        public boolean isExpiredAt(long nowMillis) {
+            return nowMillis >= expiresAtSeconds * 1000;
+        }
+
+        public boolean isNotYetValidAt(long nowMillis) {
+            return notBeforeSeconds >= 0 && nowMillis < notBeforeSeconds * 1000;
+        }
+
+        public long expiresAtMillis() {
+            return expiresAtSeconds * 1000;
+        }
+    }
+
+    private AccessTokenClaims() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token does not have three Base64url parts
+     */
+    public static Parts split(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new IllegalArgumentException("Token must have exactly two periods");
+        }
+        try {
+            return new Parts(
+                    token.getBytes(StandardCharsets.US_ASCII),
+                    secondDot,
+                    DECODER.decode(token.substring(0, firstDot)),
+                    DECODER.decode(token.substring(firstDot + 1, secondDot)),
+                    DECODER.decode(token.substring(secondDot + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Token is not Base64url encoded", e);
+        }
+    }
+
+    public static Header readHeader(byte[] header) throws IOException {
+        String algorithm = null;
+        String keyId = null;
+        String unsupportedField = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(header)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "alg" -> algorithm = parser.getValueAsString();
+                    case "kid" -> keyId = parser.getValueAsString();
+                    case "crit", "zip" -> {
+                        unsupportedField = field;
+                        parser.skipChildren();
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new Header(algorithm, keyId, unsupportedField);
+    }
+
+    public static Claims readClaims(byte[] payload) throws IOException {
+        String subject = null;
+        Long userId = null;
+        Set<Integer> roleIds = Set.of();
+        String tokenId = null;
+        long expiresAtSeconds = -1;
+        long notBeforeSeconds = -1;
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "sub" -> subject = parser.getValueAsString();
+                    case USER_ID_CLAIM -> userId = parser.getLongValue();
+                    case "jti" -> tokenId = parser.getValueAsString();
+                    case "exp" -> expiresAtSeconds = parser.getLongValue();
+                    case "nbf" -> notBeforeSeconds = parser.getLongValue();
+                    case ROLES_CLAIM -> roleIds = readRoleIds(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new Claims(subject, userId, roleIds, tokenId, expiresAtSeconds, notBeforeSeconds);
+    }
+
+    private static Set<Integer> readRoleIds(JsonParser parser, JsonToken value) throws IOException {
+        expect(parser, value, JsonToken.START_ARRAY);
+        Set<Integer> roleIds = new HashSet<>(4);
+        while (parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+            roleIds.add(parser.getIntValue());
+        }
+        expect(parser, parser.currentToken(), JsonToken.END_ARRAY);
+        return Set.copyOf(roleIds);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
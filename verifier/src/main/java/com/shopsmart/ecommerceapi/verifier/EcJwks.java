@@ -0,0 +1,78 @@
+package com.shopsmart.ecommerceapi.verifier;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts P-256 public keys to and from their JSON Web Key form (RFC 7518, section 6.2).
+ */
+public final class EcJwks {
+
+    private static final int COORDINATE_BYTES = 32;
+    private static final ECParameterSpec P256 = p256();
+
+    private EcJwks() {
+    }
+
+    /**
+     * The JWK members of {@code publicKey}, in a fixed order so every instance serving the same
+     * keys produces the same bytes, and so the same ETag.
+     */
+    public static Map<String, String> toJwk(String keyId, ECPublicKey publicKey) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("kid", keyId);
+        jwk.put("x", encode(publicKey.getW().getAffineX()));
+        jwk.put("y", encode(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    public static ECPublicKey toPublicKey(String x, String y) {
+        ECPoint point = new ECPoint(decode(x), decode(y));
+        try {
+            return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, P256));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid P-256 public key", e);
+        }
+    }
+
+    // Coordinates are fixed-length: BigInteger drops leading zeros and may add a sign byte.
+    private static String encode(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] padded = new byte[COORDINATE_BYTES];
+        int length = Math.min(bytes.length, COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, padded, COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(padded);
+    }
+
+    private static BigInteger decode(String coordinate) {
+        byte[] bytes = Base64.getUrlDecoder().decode(coordinate);
+        if (bytes.length != COORDINATE_BYTES) {
+            throw new IllegalArgumentException("P-256 coordinates must be " + COORDINATE_BYTES + " bytes, got " + bytes.length);
+        }
+        return new BigInteger(1, bytes);
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("P-256 is not supported by this JVM", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.shopsmart.ecommerceapi.verifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.interfaces.ECPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps a copy of a JWKS, refreshed ahead of its Cache-Control max-age so lookups never wait on
+ * the network once the first copy is loaded. Refreshes are conditional on the ETag, so an
+ * unchanged key set costs a 304 without a body.
+ * <p>
+ * A key id missing from the copy triggers a synchronous refresh, at most once per
+ * {@link #MIN_REFRESH_INTERVAL}, for keys published after the last refresh. When a refresh fails
+ * the previous keys stay in use: a stale key set keeps verifying tokens, an empty one would reject
+ * them all.
+ */
+final class JwksCache {
+
+    static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(5);
+    static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    // Refresh once this share of the max-age has elapsed.
+    private static final double REFRESH_AHEAD_RATIO = 0.8;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final System.Logger LOG = System.getLogger(JwksCache.class.getName());
+
+    private final URI jwksUri;
+    private final HttpClient httpClient;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object loadLock = new Object();
+
+    private volatile Snapshot snapshot;
+    private volatile long lastSynchronousRefreshMillis;
+
+    JwksCache(URI jwksUri, HttpClient httpClient, Clock clock) {
+        this.jwksUri = jwksUri;
+        this.httpClient = httpClient;
+        this.clock = clock;
+    }
+
+    ECPublicKey find(String keyId) {
+        Snapshot current = snapshot;
+        long now = clock.millis();
+        if (current == null) {
+            current = refreshSynchronously(null);
+        } else if (now >= current.refreshAtMillis()) {
+            refreshInBackground();
+        }
+        ECPublicKey key = current.keys().get(keyId);
+        if (key == null && now - lastSynchronousRefreshMillis >= MIN_REFRESH_INTERVAL.toMillis()) {
+            key = refreshSynchronously(current).keys().get(keyId);
+        }
+        return key;
+    }
+
+    private Snapshot refreshSynchronously(Snapshot seen) {
+        synchronized (loadLock) {
+            // Another thread may have refreshed while this one waited.
+            Snapshot current = snapshot;
+            if (current != null && current != seen) {
+                return current;
+            }
+            lastSynchronousRefreshMillis = clock.millis();
+            try {
+                return update(httpClient.send(request(current), HttpResponse.BodyHandlers.ofByteArray()));
+            } catch (IOException | RuntimeException e) {
+                return keepOrFail(current, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return keepOrFail(current, e);
+            }
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        httpClient.sendAsync(request(current), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, failure) -> {
+                    try {
+                        if (failure == null) {
+                            update(response);
+                        } else {
+                            keepOrFail(current, failure);
+                        }
+                    } catch (RuntimeException e) {
+                        LOG.log(System.Logger.Level.WARNING, "Could not refresh JWKS from " + jwksUri, e);
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+    }
+
+    private HttpRequest request(Snapshot current) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(jwksUri).timeout(REQUEST_TIMEOUT).GET();
+        if (current != null && current.etag() != null) {
+            request.header("If-None-Match", current.etag());
+        }
+        return request.build();
+    }
+
+    private Snapshot update(HttpResponse<byte[]> response) {
+        Snapshot current = snapshot;
+        Map<String, ECPublicKey> keys;
+        String etag;
+        if (response.statusCode() == 304 && current != null) {
+            keys = current.keys();
+            etag = current.etag();
+        } else if (response.statusCode() == 200) {
+            keys = parse(response.body());
+            etag = response.headers().firstValue("ETag").orElse(null);
+        } else {
+            throw new TokenVerificationException("JWKS request to " + jwksUri + " returned " + response.statusCode());
+        }
+        long maxAgeMillis = maxAge(response).toMillis();
+        Snapshot updated = new Snapshot(keys, etag, clock.millis() + (long) (maxAgeMillis * REFRESH_AHEAD_RATIO));
+        snapshot = updated;
+        return updated;
+    }
+
+    private Snapshot keepOrFail(Snapshot current, Throwable failure) {
+        if (current == null) {
+            TokenVerificationException exception = new TokenVerificationException("Could not load JWKS from " + jwksUri);
+            exception.initCause(failure);
+            throw exception;
+        }
+        LOG.log(System.Logger.Level.WARNING, "Could not refresh JWKS from " + jwksUri + ", keeping " + current.keys().size() + " cached keys", failure);
+        // Retry after the minimum interval rather than on every lookup.
+        Snapshot retained = new Snapshot(current.keys(), current.etag(), clock.millis() + MIN_REFRESH_INTERVAL.toMillis());
+        snapshot = retained;
+        return retained;
+    }
+
+    private Map<String, ECPublicKey> parse(byte[] body) {
+        JsonNode keys;
+        try {
+            keys = objectMapper.readTree(body).path("keys");
+        } catch (IOException e) {
+            throw new TokenVerificationException("Malformed JWKS from " + jwksUri);
+        }
+        Map<String, ECPublicKey> keysById = new HashMap<>();
+        for (JsonNode key : keys) {
+            // Other key types and curves are skipped, not rejected, so the set can grow new ones.
+            if ("EC".equals(key.path("kty").asText()) && "P-256".equals(key.path("crv").asText())
+                    && key.hasNonNull("kid") && !"enc".equals(key.path("use").asText())) {
+                keysById.put(key.get("kid").asText(), EcJwks.toPublicKey(key.path("x").asText(), key.path("y").asText()));
+            }
+        }
+        return Map.copyOf(keysById);
+    }
+
+    private static Duration maxAge(HttpResponse<?> response) {
+        return response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Duration.ofSeconds(Long.parseLong(matcher.group(1))))
+                .orElse(DEFAULT_MAX_AGE);
+    }
+
+    private record Snapshot(Map<String, ECPublicKey> keys, String etag, long refreshAtMillis) {
+    }
+}
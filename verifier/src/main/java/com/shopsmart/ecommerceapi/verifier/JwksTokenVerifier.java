@@ -0,0 +1,118 @@
+package com.shopsmart.ecommerceapi.verifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.ECPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Verifies ES256 access tokens issued by the ShopSmart API locally, with the public keys from its
+ * {@code /.well-known/jwks.json}, so that other services never need the signing secret or a call
+ * back into the API per request. Keys are cached and refreshed ahead of expiry; see
+ * {@link JwksCache}.
+ * <p>
+ * Published as {@code com.shopsmart:ecommerce-api-verifier}, which depends only on the JDK and
+ * jackson-databind.
+ * <p>
+ * Revocation is not visible here: a revoked access token is accepted until it expires, which is
+ * what the API's short access token validity bounds. Instances are thread-safe and meant to be
+ * shared.
+ */
+public final class JwksTokenVerifier {
+
+    private static final String ALGORITHM = "ES256";
+    private static final String SIGNATURE_ALGORITHM = "SHA256withECDSAinP1363Format";
+
+    private final JwksCache keys;
+    private final Clock clock;
+
+    public JwksTokenVerifier(URI jwksUri) {
+        this(jwksUri, HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build(), Clock.systemUTC());
+    }
+
+    public JwksTokenVerifier(URI jwksUri, HttpClient httpClient, Clock clock) {
+        this.keys = new JwksCache(jwksUri, httpClient, clock);
+        this.clock = clock;
+    }
+
+    /**
+     * @throws TokenVerificationException if the token is malformed, not ES256, signed with an
+     *                                    unknown key, tampered with or expired, or if no key set
+     *                                    could be loaded yet
+     */
+    public VerifiedToken verify(String token) {
+        AccessTokenClaims.Parts parts;
+        try {
+            parts = AccessTokenClaims.split(token);
+        } catch (IllegalArgumentException e) {
+            throw new TokenVerificationException(e.getMessage());
+        }
+        String keyId = readKeyId(parts.header());
+        ECPublicKey key = keys.find(keyId);
+        if (key == null) {
+            throw new TokenVerificationException("Unknown key id " + keyId);
+        }
+        if (!verifySignature(key, parts.signingInput(), parts.signedLength(), parts.signature())) {
+            throw new TokenVerificationException("Token signature does not match");
+        }
+        return readClaims(parts.payload());
+    }
+
+    private static String readKeyId(byte[] header) {
+        AccessTokenClaims.Header parsed;
+        try {
+            parsed = AccessTokenClaims.readHeader(header);
+        } catch (IOException e) {
+            throw new TokenVerificationException("Malformed token header");
+        }
+        if (parsed.unsupportedField() != null) {
+            throw new TokenVerificationException("Unsupported token header: " + parsed.unsupportedField());
+        }
+        if (!ALGORITHM.equals(parsed.algorithm())) {
+            throw new TokenVerificationException("Unsupported token algorithm: " + parsed.algorithm());
+        }
+        if (parsed.keyId() == null) {
+            throw new TokenVerificationException("Token has no key id");
+        }
+        return parsed.keyId();
+    }
+
+    private VerifiedToken readClaims(byte[] payload) {
+        AccessTokenClaims.Claims claims;
+        try {
+            claims = AccessTokenClaims.readClaims(payload);
+        } catch (IOException e) {
+            throw new TokenVerificationException("Malformed token payload");
+        }
+
+        long now = clock.millis();
+        if (!claims.hasExpiration()) {
+            throw new TokenVerificationException("Token has no expiration");
+        }
+        if (claims.isExpiredAt(now)) {
+            throw new TokenVerificationException("Token expired");
+        }
+        if (claims.isNotYetValidAt(now)) {
+            throw new TokenVerificationException("Token is not valid yet");
+        }
+        return new VerifiedToken(claims.userId(), claims.subject(), claims.roleIds(), claims.expiresAtMillis(), claims.tokenId());
+    }
+
+    private static boolean verifySignature(ECPublicKey key, byte[] token, int signedLength, byte[] signature) {
+        try {
+            Signature verifier = Signature.getInstance(SIGNATURE_ALGORITHM);
+            verifier.initVerify(key);
+            verifier.update(token, 0, signedLength);
+            return verifier.verify(signature);
+        } catch (SignatureException e) {
+            return false;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + SIGNATURE_ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.shopsmart.ecommerceapi.verifier;
+
+public class TokenVerificationException extends RuntimeException {
+
+    public TokenVerificationException(String message) {
+        super(message);
+    }
+}
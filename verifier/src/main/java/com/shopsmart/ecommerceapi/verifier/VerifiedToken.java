@@ -0,0 +1,18 @@
+package com.shopsmart.ecommerceapi.verifier;
+
+import java.util.Set;
+
+/**
+ * The claims of a verified access token.
+ *
+ * @param userId  the {@code uid} claim
+ * @param email   the {@code sub} claim
+ * @param roleIds the {@code rol} claim, ids of the issuing API's roles table
+ * @param tokenId the {@code jti} claim
+ */
+public record VerifiedToken(Long userId, String email, Set<Integer> roleIds, long expiresAtMillis, String tokenId) {
+
+    public boolean hasRole(int roleId) {
+        return roleIds.contains(roleId);
+    }
+}